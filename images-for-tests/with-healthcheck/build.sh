@@ -0,0 +1,5 @@
+#!/bin/sh
+set -e
+
+docker build -t faustxvi/with-healthcheck .
+docker push faustxvi/with-healthcheck
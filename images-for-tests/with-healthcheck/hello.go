@@ -0,0 +1,55 @@
+package main
+
+import (
+	"fmt"
+	"log"
+	"net/http"
+	"os"
+	"time"
+)
+
+func main() {
+	if len(os.Args) > 1 {
+		os.Exit(runCommand(os.Args[1]))
+	}
+	log.Print("starting")
+	startHTTPOn("/hello", "8080", helloHandler)
+}
+
+func runCommand(command string) int {
+	switch command {
+	case "check":
+		return check()
+	case "version":
+		fmt.Println("with-healthcheck")
+		return 0
+	case "hang":
+		time.Sleep(time.Hour)
+		return 0
+	default:
+		fmt.Fprintf(os.Stderr, "unknown command %s\n", command)
+		return 2
+	}
+}
+
+func check() int {
+	response, err := http.Get("http://localhost:8080/hello")
+	if err != nil {
+		return 1
+	}
+	defer response.Body.Close()
+	if response.StatusCode != http.StatusOK {
+		return 1
+	}
+	return 0
+}
+
+func startHTTPOn(path string, port string, handler http.HandlerFunc) {
+	http.HandleFunc(path, handler)
+	log.Printf("listening on port %s", port)
+	log.Fatal(http.ListenAndServe(":"+port, nil))
+}
+
+func helloHandler(writer http.ResponseWriter, request *http.Request) {
+	fmt.Fprintf(writer, "Hello world\n")
+}
@@ -0,0 +1,114 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.ContainerFlightEvents.ContainerStop;
+import com.github.junit5docker.fakes.FakeExtensionContext;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.github.junit5docker.LifecyclePhase.CREATE;
+import static com.github.junit5docker.LifecyclePhase.INSPECT;
+import static com.github.junit5docker.LifecyclePhase.PULL;
+import static com.github.junit5docker.LifecyclePhase.READINESS;
+import static com.github.junit5docker.LifecyclePhase.START;
+import static com.github.junit5docker.LifecyclePhase.STOP;
+import static com.github.junit5docker.LifecycleTimings.recordTimings;
+import static com.github.junit5docker.LifecycleTimings.timed;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContainerFlightEventsTest {
+
+    private static final String[] EVENT_NAMES = {
+        "com.github.junit5docker.ContainerPull",
+        "com.github.junit5docker.ContainerCreate",
+        "com.github.junit5docker.ContainerStart",
+        "com.github.junit5docker.ContainerReady",
+        "com.github.junit5docker.ContainerStop",
+    };
+
+    private final FakeExtensionContext context = new FakeExtensionContext(ContainerFlightEventsTest.class);
+
+    @Test
+    void loadEventsOnThisJvm() {
+        assertThat(FlightRecorderEvents.load(FlightRecorderEvents.EVENTS_CLASS))
+            .isInstanceOf(ContainerFlightEvents.class);
+    }
+
+    @Test
+    void recordImageOfPull() throws IOException {
+        List<RecordedEvent> events = recordEvents(() -> timed(PULL, "wantedImage:latest", () -> { }));
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEventType().getName()).isEqualTo("com.github.junit5docker.ContainerPull");
+        assertThat(events.get(0).getString("image")).isEqualTo("wantedImage:latest");
+        assertThat(events.get(0).getString("containerId")).isNull();
+        assertThat(events.get(0).getString("testClass")).isEqualTo(ContainerFlightEventsTest.class.getName());
+    }
+
+    @Test
+    void recordContainerOfReadiness() throws IOException {
+        List<RecordedEvent> events = recordEvents(() -> timed(READINESS, "CONTAINER_ID", () -> { }));
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEventType().getName()).isEqualTo("com.github.junit5docker.ContainerReady");
+        assertThat(events.get(0).getString("containerId")).isEqualTo("CONTAINER_ID");
+        assertThat(events.get(0).getDuration()).isNotNull();
+    }
+
+    @Test
+    void recordOneEventTypePerPhase() throws IOException {
+        List<RecordedEvent> events = recordEvents(() -> {
+            timed(CREATE, "wantedImage:latest", () -> { });
+            timed(START, "CONTAINER_ID", () -> { });
+            timed(STOP, "CONTAINER_ID", () -> { });
+        });
+        assertThat(events).extracting(event -> event.getEventType().getName()).containsExactlyInAnyOrder(
+            "com.github.junit5docker.ContainerCreate",
+            "com.github.junit5docker.ContainerStart",
+            "com.github.junit5docker.ContainerStop");
+    }
+
+    @Test
+    void describeEventOnlyWhenRecorded() {
+        try (Recording recording = new Recording()) {
+            recording.enable("com.github.junit5docker.ContainerStop");
+            recording.start();
+            ContainerStop event = (ContainerStop) new ContainerFlightEvents().begin(STOP);
+            event.end("CONTAINER_ID", ContainerFlightEventsTest.class.getName());
+            assertThat(event.getContainerId()).isEqualTo("CONTAINER_ID");
+            assertThat(event.getImage()).isNull();
+            assertThat(event.getTestClass()).isEqualTo(ContainerFlightEventsTest.class.getName());
+        }
+        ContainerStop unrecorded = (ContainerStop) new ContainerFlightEvents().begin(STOP);
+        unrecorded.end("CONTAINER_ID", ContainerFlightEventsTest.class.getName());
+        assertThat(unrecorded.getContainerId()).isNull();
+    }
+
+    @Test
+    void notRecordPhasesWithoutEvent() throws IOException {
+        assertThat(recordEvents(() -> timed(INSPECT, "wantedImage:latest", () -> { }))).isEmpty();
+    }
+
+    private List<RecordedEvent> recordEvents(Runnable callback) throws IOException {
+        Path dump = Files.createTempFile("junit5-docker", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : EVENT_NAMES) {
+                recording.enable(eventName);
+            }
+            recording.start();
+            recordTimings(context, callback);
+            recording.stop();
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.github.junit5docker."))
+                .collect(toList());
+        } finally {
+            Files.delete(dump);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.junit5docker;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+final class ContainerFlightEvents implements LifecycleEvents {
+
+    private static final String CATEGORY = "JUnit5-Docker";
+
+    @Override
+    public LifecycleEvent begin(LifecyclePhase phase) {
+        switch (phase) {
+            case PULL:
+                return started(new ContainerPull());
+            case CREATE:
+                return started(new ContainerCreate());
+            case START:
+                return started(new ContainerStart());
+            case READINESS:
+                return started(new ContainerReady());
+            case STOP:
+                return started(new ContainerStop());
+            default:
+                return LifecycleEvent.NONE;
+        }
+    }
+
+    private static LifecycleEvent started(AbstractContainerEvent event) {
+        event.begin();
+        return event;
+    }
+
+    @Category(CATEGORY)
+    abstract static class AbstractContainerEvent extends Event implements LifecycleEvent {
+
+        // JFR ignores the private fields of super classes
+        @Label("Container ID")
+        String containerId;
+
+        @Label("Image")
+        String image;
+
+        @Label("Test Class")
+        String testClass;
+
+        @Override
+        public void end(String target, String testClassName) {
+            end();
+            if (shouldCommit()) {
+                describe(target);
+                this.testClass = testClassName;
+                commit();
+            }
+        }
+
+        // the target is the image until the container exists, then the container ID
+        abstract void describe(String target);
+
+        String getContainerId() {
+            return containerId;
+        }
+
+        String getImage() {
+            return image;
+        }
+
+        String getTestClass() {
+            return testClass;
+        }
+    }
+
+    @Name("com.github.junit5docker.ContainerPull")
+    @Label("Container Pull")
+    @Description("Pull of a missing image")
+    static final class ContainerPull extends AbstractContainerEvent {
+
+        @Override
+        void describe(String target) {
+            this.image = target;
+        }
+    }
+
+    @Name("com.github.junit5docker.ContainerCreate")
+    @Label("Container Create")
+    @Description("Creation of a container from its image")
+    static final class ContainerCreate extends AbstractContainerEvent {
+
+        @Override
+        void describe(String target) {
+            this.image = target;
+        }
+    }
+
+    @Name("com.github.junit5docker.ContainerStart")
+    @Label("Container Start")
+    @Description("Start of a created container")
+    static final class ContainerStart extends AbstractContainerEvent {
+
+        @Override
+        void describe(String target) {
+            this.containerId = target;
+        }
+    }
+
+    @Name("com.github.junit5docker.ContainerReady")
+    @Label("Container Ready")
+    @Description("Wait for a started container to be ready")
+    static final class ContainerReady extends AbstractContainerEvent {
+
+        @Override
+        void describe(String target) {
+            this.containerId = target;
+        }
+    }
+
+    @Name("com.github.junit5docker.ContainerStop")
+    @Label("Container Stop")
+    @Description("Stop of a container")
+    static final class ContainerStop extends AbstractContainerEvent {
+
+        @Override
+        void describe(String target) {
+            this.containerId = target;
+        }
+    }
+}
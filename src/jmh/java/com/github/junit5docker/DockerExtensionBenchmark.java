@@ -0,0 +1,122 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.fakes.FakeExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Measures what the extension costs on top of docker, against a simulated daemon answering after
+ * {@link #daemonLatencyInMicros}. With no latency, the scores are the fixed overhead of the extension. The lifecycle
+ * benchmarks are also run on several threads to show how this overhead scales when test classes run in parallel.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class DockerExtensionBenchmark {
+
+    private static final int THREADS = 4;
+
+    @Param({"0", "100", "1000"})
+    private long daemonLatencyInMicros;
+
+    private DockerExtension dockerExtension;
+
+    private ContainerReadiness containerReadiness;
+
+    private final ReadinessConditions readinessConditions = new ReadinessConditions();
+
+    private ExtensionContext root;
+
+    @Setup
+    public void createExtension() {
+        DockerClientAdapter simulatedClient = new SimulatedDockerClient(MICROSECONDS.toNanos(daemonLatencyInMicros));
+        dockerExtension = new DockerExtension(simulatedClient);
+        containerReadiness = new ContainerReadiness(simulatedClient);
+        root = new FakeExtensionContext(DockerExtensionBenchmark.class);
+    }
+
+    @Benchmark
+    public Optional<Docker> annotationLookup() {
+        return AnnotationUtils.findAnnotation(ContainerPerClass.class, Docker.class);
+    }
+
+    @Benchmark
+    public ContainerDefinition containerDefinition() {
+        return ContainerDefinition.from(ContainerPerClass.class.getAnnotation(Docker.class));
+    }
+
+    @Benchmark
+    public void readinessExecutorCreation() {
+        ReadinessExecutor.create().shutdown();
+    }
+
+    @Benchmark
+    public void readinessWait() {
+        containerReadiness.waitUntilReady("container", ContainerPerClass.class.getAnnotation(Docker.class),
+            readinessConditions, 0);
+    }
+
+    @Benchmark
+    public void containerPerClass() {
+        runClass(ContainerPerClass.class, 0);
+    }
+
+    @Benchmark
+    public void containerPerTest() {
+        runClass(ContainerPerTest.class, 1);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public void containerPerClassInParallel() {
+        runClass(ContainerPerClass.class, 0);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public void containerPerTestInParallel() {
+        runClass(ContainerPerTest.class, 1);
+    }
+
+    private void runClass(Class<?> testClass, int tests) {
+        ExtensionContext classContext = new FakeExtensionContext(testClass, root);
+        dockerExtension.beforeAll(classContext);
+        for (int i = 0; i < tests; i++) {
+            ExtensionContext testContext = new FakeExtensionContext(testClass, classContext);
+            dockerExtension.beforeEach(testContext);
+            dockerExtension.afterEach(testContext);
+        }
+        dockerExtension.afterAll(classContext);
+    }
+
+    @Docker(image = "benchmark", ports = @Port(exposed = 8801, inner = 8800),
+        environments = @Environment(key = "KEY", value = "VALUE"),
+        waitFor = @WaitFor(SimulatedDockerClient.READY_LINE), newForEachCase = false)
+    private static class ContainerPerClass {
+    }
+
+    @Docker(image = "benchmark", ports = @Port(exposed = 8801, inner = 8800),
+        environments = @Environment(key = "KEY", value = "VALUE"),
+        waitFor = @WaitFor(SimulatedDockerClient.READY_LINE))
+    private static class ContainerPerTest {
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.junit5docker;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Compares {@link QueueIterator}, which wakes its reader when the stream ends, with the former loop polling the queue
+ * every 10 ms. {@link #endOfStream} is the time for a reader waiting for a line to notice the end of the stream.
+ * {@link #idleWait} waits {@link #IDLE_MILLIS} without any line and reports, as the {@code cpuMicros} secondary
+ * result, the CPU time the waiting reader used meanwhile.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QueueIteratorBenchmark {
+
+    static final long IDLE_MILLIS = 200;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    @Param({"signaled", "polled"})
+    private String reader;
+
+    private Reader waitingReader;
+
+    private Thread consumer;
+
+    @Setup(Level.Invocation)
+    public void startWaitingReader() {
+        waitingReader = "signaled".equals(reader) ? new SignaledReader() : new PolledReader();
+        consumer = new Thread(waitingReader::hasNext, "benchmark-reader");
+        consumer.start();
+        while (consumer.getState() == Thread.State.NEW || consumer.getState() == Thread.State.RUNNABLE) {
+            Thread.yield();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(MICROSECONDS)
+    public void endOfStream() throws InterruptedException {
+        waitingReader.end();
+        consumer.join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 10)
+    @OutputTimeUnit(MILLISECONDS)
+    public void idleWait(IdleCpu idleCpu) throws InterruptedException {
+        long cpuBefore = THREADS.getThreadCpuTime(consumer.getId());
+        MILLISECONDS.sleep(IDLE_MILLIS);
+        idleCpu.cpuMicros += TimeUnit.NANOSECONDS.toMicros(THREADS.getThreadCpuTime(consumer.getId()) - cpuBefore);
+        waitingReader.end();
+        consumer.join();
+    }
+
+    /**
+     * CPU time used by the waiting reader, reported next to the score of {@link #idleWait}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IdleCpu {
+
+        public long cpuMicros;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cpuMicros = 0;
+        }
+    }
+
+    private interface Reader {
+
+        boolean hasNext();
+
+        void end();
+    }
+
+    private static final class SignaledReader implements Reader {
+
+        private final QueueIterator<String> iterator = new QueueIterator<>(1, LogOverflow.BLOCK);
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public void end() {
+            iterator.end();
+        }
+    }
+
+    private static final class PolledReader implements Reader {
+
+        private final BlockingQueue<String> lines = new ArrayBlockingQueue<>(1);
+
+        private final AtomicBoolean opened = new AtomicBoolean(true);
+
+        @Override
+        public boolean hasNext() {
+            String line = null;
+            while (opened.get() && line == null) {
+                try {
+                    line = lines.poll(10, MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return line != null;
+        }
+
+        @Override
+        public void end() {
+            opened.set(false);
+        }
+    }
+}
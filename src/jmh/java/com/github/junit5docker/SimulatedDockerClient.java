@@ -0,0 +1,101 @@
+package com.github.junit5docker;
+
+import java.io.Closeable;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Stands for the docker daemon: every call which would reach the daemon waits for the configured latency and
+ * containers log their ready line at once.
+ */
+final class SimulatedDockerClient implements DockerClientAdapter {
+
+    static final String READY_LINE = "started";
+
+    private static final byte[] READY_FRAME = (READY_LINE + '\n').getBytes(Charset.forName("UTF-8"));
+
+    private final long latencyInNanos;
+
+    private final AtomicLong startedContainers = new AtomicLong();
+
+    SimulatedDockerClient(long latencyInNanos) {
+        this.latencyInNanos = latencyInNanos;
+    }
+
+    @Override
+    public void ensureImageExists(String wantedImage) {
+        callDaemon();
+    }
+
+    @Override
+    public String startContainer(String wantedImage, Map<String, String> environment, PortBinding... portBinding) {
+        callDaemon();
+        return "container-" + startedContainers.incrementAndGet();
+    }
+
+    @Override
+    public void stopAndRemoveContainer(String containerId) {
+        callDaemon();
+    }
+
+    @Override
+    public void stopAndRemoveContainer(String containerId, int stopTimeoutInSeconds) {
+        callDaemon();
+    }
+
+    @Override
+    public void killAndRemoveContainer(String containerId) {
+        callDaemon();
+    }
+
+    @Override
+    public void restartContainer(String containerId, int stopTimeoutInSeconds) {
+        callDaemon();
+    }
+
+    @Override
+    public Map<Integer, Integer> mappedPorts(String containerId) {
+        callDaemon();
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Stream<String> logs(String containerId) {
+        callDaemon();
+        return Stream.of(READY_LINE);
+    }
+
+    @Override
+    public Stream<byte[]> rawLogs(String containerId) {
+        callDaemon();
+        return Stream.of(READY_FRAME.clone());
+    }
+
+    @Override
+    public String healthStatus(String containerId) {
+        callDaemon();
+        return HealthWaiter.HEALTHY;
+    }
+
+    @Override
+    public Closeable followEvents(String containerId, Consumer<String> eventListener) {
+        callDaemon();
+        return () -> { };
+    }
+
+    @Override
+    public int execute(String containerId, long timeoutInMillis, Consumer<String> outputListener,
+                       String... command) {
+        callDaemon();
+        return ExecWaiter.SUCCESS;
+    }
+
+    private void callDaemon() {
+        if (latencyInNanos > 0) LockSupport.parkNanos(latencyInNanos);
+    }
+}
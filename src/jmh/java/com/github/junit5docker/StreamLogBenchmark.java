@@ -0,0 +1,144 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Feeds synthetic log frames through the pipeline every {@link WaitFor} goes through: the docker callback pushes
+ * frames into the bounded buffer on one thread while the waiting thread searches the stream for the last line.
+ * Operations are lines, so throughput is in lines per second and average time is the latency per line. Every frame
+ * holds {@code linesPerFrame} lines, the last line of the last one being {@link #LAST_LINE}, so that exactly
+ * {@link #LINES} lines go through each invocation.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(StreamLogBenchmark.LINES)
+@Docker(image = "benchmark", ports = {}, waitFor = @WaitFor(StreamLogBenchmark.LAST_LINE))
+public class StreamLogBenchmark {
+
+    // a multiple of every linesPerFrame
+    static final int LINES = 10_240;
+
+    static final String LAST_LINE = "started";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Param({"16", "128", "1024"})
+    private int lineLength;
+
+    @Param({"1", "32"})
+    private int linesPerFrame;
+
+    private Frame[] frames;
+
+    private ReadinessCondition literalCondition;
+
+    private ExecutorService dockerCallbackThread;
+
+    @Setup
+    public void createFrames() {
+        if (LINES % linesPerFrame != 0) {
+            throw new IllegalStateException(LINES + " lines cannot be cut into frames of " + linesPerFrame + " lines");
+        }
+        char[] filler = new char[lineLength];
+        Arrays.fill(filler, 'x');
+        String line = new String(filler) + '\n';
+        StringBuilder firstLines = new StringBuilder();
+        for (int i = 1; i < linesPerFrame; i++) {
+            firstLines.append(line);
+        }
+        frames = new Frame[LINES / linesPerFrame];
+        Arrays.fill(frames, frame(firstLines + line));
+        frames[frames.length - 1] = frame(firstLines + LAST_LINE + '\n');
+        literalCondition = ReadinessCondition.compile(
+            StreamLogBenchmark.class.getAnnotation(Docker.class).waitFor());
+        dockerCallbackThread = Executors.newSingleThreadExecutor(new DaemonThreadFactory("benchmark-docker"));
+    }
+
+    @TearDown
+    public void stopCallbackThread() {
+        dockerCallbackThread.shutdownNow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(SECONDS)
+    public boolean linesPerSecond() throws InterruptedException, ExecutionException {
+        return searchLines();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(NANOSECONDS)
+    public boolean latencyPerLine() throws InterruptedException, ExecutionException {
+        return searchLines();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(SECONDS)
+    public boolean rawLinesPerSecond() throws InterruptedException, ExecutionException {
+        return searchFrames();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(NANOSECONDS)
+    public boolean rawLatencyPerLine() throws InterruptedException, ExecutionException {
+        return searchFrames();
+    }
+
+    private boolean searchLines() throws InterruptedException, ExecutionException {
+        return search(new StreamLog(), LAST_LINE::equals);
+    }
+
+    private boolean searchFrames() throws InterruptedException, ExecutionException {
+        return search(new FrameLog(), literalCondition.newProgress(1)::foundIn);
+    }
+
+    private <T> boolean search(AbstractBufferedLog<T> log, Predicate<T> lastLine)
+        throws InterruptedException, ExecutionException {
+        Future<?> feeding = dockerCallbackThread.submit(() -> {
+            for (Frame frame : frames) {
+                log.onNext(frame);
+            }
+            log.onComplete();
+        });
+        try (Stream<T> lines = log.stream()) {
+            boolean found = lines.anyMatch(lastLine);
+            feeding.get();
+            return found;
+        }
+    }
+
+    private static Frame frame(String lines) {
+        return new Frame(StreamType.STDOUT, lines.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.core.command.LogContainerResultCallback;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+abstract class AbstractBufferedLog<T> extends LogContainerResultCallback {
+
+    static final String BUFFER_CAPACITY_PROPERTY = "junit5docker.logs.bufferCapacity";
+
+    static final String OVERFLOW_PROPERTY = "junit5docker.logs.overflow";
+
+    static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+    private final QueueIterator<T> queueIterator;
+
+    AbstractBufferedLog() {
+        this(Integer.getInteger(BUFFER_CAPACITY_PROPERTY, DEFAULT_BUFFER_CAPACITY),
+            LogOverflow.valueOf(System.getProperty(OVERFLOW_PROPERTY, LogOverflow.BLOCK.name())));
+    }
+
+    AbstractBufferedLog(int bufferCapacity, LogOverflow overflow) {
+        super();
+        this.queueIterator = new QueueIterator<>(bufferCapacity, overflow);
+    }
+
+    @Override
+    public abstract void onNext(Frame item);
+
+    @Override
+    public void onComplete() {
+        super.onComplete();
+        endOfLogs();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        super.onError(throwable);
+        endOfLogs();
+    }
+
+    void push(T item) throws InterruptedException {
+        queueIterator.push(item);
+    }
+
+    void endOfLogs() {
+        queueIterator.end();
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliteratorUnknownSize(queueIterator, 0), false)
+            .onClose(() -> {
+                try {
+                    this.close();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    queueIterator.close();
+                }
+            });
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.jaxrs.JerseyDockerCmdExecFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.github.dockerjava.core.DefaultDockerClientConfig.createDefaultConfigBuilder;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+class BackgroundDockerClient {
+
+    static final String MAX_CONNECTIONS_PROPERTY = "junit5docker.client.maxConnections";
+
+    static final String CONNECTION_REQUEST_TIMEOUT_PROPERTY = "junit5docker.client.connectionRequestTimeoutInMillis";
+
+    static final int DEFAULT_MAX_CONNECTIONS = 16;
+
+    private static final Logger LOGGER = Logger.getLogger(BackgroundDockerClient.class.getName());
+
+    private static final ThreadFactory INITIALIZERS = new DaemonThreadFactory("junit5-docker-client-init");
+
+    private final CompletableFuture<DockerClient> dockerClient;
+
+    BackgroundDockerClient(Supplier<DockerClient> clientBuilder) {
+        Executor initializer = initialization -> INITIALIZERS.newThread(initialization).start();
+        CompletableFuture<DockerClient> builtClient = supplyAsync(clientBuilder, initializer);
+        dockerClient = builtClient.thenAccept(client -> client.pingCmd().exec())
+            .handle((pinged, error) -> logPingFailure(error))
+            .thenCompose(pinged -> builtClient);
+    }
+
+    static DockerClient buildClient() {
+        int maxConnections = Integer.getInteger(MAX_CONNECTIONS_PROPERTY, DEFAULT_MAX_CONNECTIONS);
+        JerseyDockerCmdExecFactory connections = new JerseyDockerCmdExecFactory()
+            .withMaxTotalConnections(maxConnections)
+            .withMaxPerRouteConnections(maxConnections)
+            .withConnectionRequestTimeout(Integer.getInteger(CONNECTION_REQUEST_TIMEOUT_PROPERTY));
+        return DockerClientBuilder.getInstance(createDefaultConfigBuilder().withApiVersion("1.24"))
+            .withDockerCmdExecFactory(connections)
+            .build();
+    }
+
+    DockerClient get() {
+        return Futures.join(dockerClient);
+    }
+
+    void close() {
+        DockerClient client = dockerClient.handle((built, error) -> built).join();
+        if (client == null) return;
+        try {
+            client.close();
+        } catch (IOException e) {
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.log(Level.WARNING, "Could not close the docker client", e);
+            }
+        }
+    }
+
+    private static Void logPingFailure(Throwable error) {
+        if (error != null && LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Could not ping the docker daemon", error);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.junit5docker;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+final class Backoff {
+
+    static final long INITIAL_DELAY_IN_MILLIS = 5;
+
+    static final long MAX_DELAY_IN_MILLIS = 500;
+
+    private static final int GROWTH_FACTOR = 2;
+
+    private final long maxDelayInMillis;
+
+    private final DoubleSupplier random;
+
+    private long delayInMillis;
+
+    Backoff() {
+        this(INITIAL_DELAY_IN_MILLIS, MAX_DELAY_IN_MILLIS, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    Backoff(long initialDelayInMillis, long maxDelayInMillis, DoubleSupplier random) {
+        this.delayInMillis = initialDelayInMillis;
+        this.maxDelayInMillis = maxDelayInMillis;
+        this.random = random;
+    }
+
+    long nextDelayInMillis() {
+        long delay = delayInMillis;
+        delayInMillis = Math.min(maxDelayInMillis, delayInMillis * GROWTH_FACTOR);
+        long jitter = (long) (random.getAsDouble() * delay / GROWTH_FACTOR);
+        return delay - jitter;
+    }
+}
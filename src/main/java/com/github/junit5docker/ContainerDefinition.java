@@ -0,0 +1,69 @@
+package com.github.junit5docker;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+final class ContainerDefinition {
+
+    private final String image;
+
+    private final Map<String, String> environment;
+
+    private final List<PortBinding> portBindings;
+
+    ContainerDefinition(String image, Map<String, String> environment, PortBinding... portBindings) {
+        this.image = image;
+        this.environment = unmodifiableMap(new HashMap<>(environment));
+        this.portBindings = unmodifiableList(Arrays.asList(portBindings.clone()));
+    }
+
+    static ContainerDefinition from(Docker dockerAnnotation) {
+        return new ContainerDefinition(dockerAnnotation.image(), createEnvironmentMap(dockerAnnotation),
+            createPortBindings(dockerAnnotation));
+    }
+
+    String startWith(DockerClientAdapter dockerClient) {
+        PortBinding[] bindings = portBindings.toArray(new PortBinding[portBindings.size()]);
+        return dockerClient.startContainer(image, environment, bindings);
+    }
+
+    private static Map<String, String> createEnvironmentMap(Docker dockerAnnotation) {
+        Map<String, String> environmentMap = new HashMap<>();
+        Environment[] environments = dockerAnnotation.environments();
+        for (Environment environment : environments) {
+            environmentMap.put(environment.key(), environment.value());
+        }
+        return environmentMap;
+    }
+
+    private static PortBinding[] createPortBindings(Docker dockerAnnotation) {
+        Port[] ports = dockerAnnotation.ports();
+        PortBinding[] portBindings = new PortBinding[ports.length];
+        for (int i = 0; i < ports.length; i++) {
+            Port port = ports[i];
+            portBindings[i] = new PortBinding(port.exposed(), port.inner());
+        }
+        return portBindings;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        ContainerDefinition that = (ContainerDefinition) other;
+        if (!image.equals(that.image)) return false;
+        return environment.equals(that.environment)
+                && portBindings.equals(that.portBindings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(image, environment, portBindings);
+    }
+}
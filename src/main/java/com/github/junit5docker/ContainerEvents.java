@@ -0,0 +1,21 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.command.EventsResultCallback;
+
+import java.util.function.Consumer;
+
+class ContainerEvents extends EventsResultCallback {
+
+    private final Consumer<String> eventListener;
+
+    ContainerEvents(Consumer<String> eventListener) {
+        super();
+        this.eventListener = eventListener;
+    }
+
+    @Override
+    public void onNext(Event event) {
+        eventListener.accept(event.getStatus());
+    }
+}
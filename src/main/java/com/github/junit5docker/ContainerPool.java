@@ -0,0 +1,49 @@
+package com.github.junit5docker;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+class ContainerPool {
+
+    private final DockerClientAdapter dockerClient;
+
+    private final Map<ContainerDefinition, CompletableFuture<String>> containers = new ConcurrentHashMap<>();
+
+    ContainerPool(DockerClientAdapter dockerClient) {
+        this.dockerClient = dockerClient;
+    }
+
+    static ContainerPool openForSession(DockerClientAdapter dockerClient, Consumer<Runnable> onSessionEnd) {
+        ContainerPool pool = new ContainerPool(dockerClient);
+        onSessionEnd.accept(pool::close);
+        return pool;
+    }
+
+    String lendContainer(ContainerDefinition definition) {
+        CompletableFuture<ContainerDefinition> startRequest = new CompletableFuture<>();
+        CompletableFuture<String> loan = startRequest.thenApply(toStart -> toStart.startWith(dockerClient));
+        CompletableFuture<String> existingLoan = containers.putIfAbsent(definition, loan);
+        if (existingLoan != null) return Futures.join(existingLoan);
+        loan.whenComplete((containerId, error) -> {
+            if (error != null) containers.remove(definition, loan);
+        });
+        // the container is started by this thread, outside of the map, and concurrent loans wait for it
+        startRequest.complete(definition);
+        return Futures.join(loan);
+    }
+
+    void close() {
+        Iterator<CompletableFuture<String>> loans = containers.values().iterator();
+        if (!loans.hasNext()) return;
+        CompletableFuture<String> loan = loans.next();
+        loans.remove();
+        try {
+            if (!loan.isCompletedExceptionally()) dockerClient.stopAndRemoveContainer(Futures.join(loan));
+        } finally {
+            close();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.junit5docker;
+
+import static com.github.junit5docker.LifecyclePhase.READINESS;
+import static com.github.junit5docker.LifecycleTimings.timed;
+
+class ContainerReadiness {
+
+    private final LogWaiter logWaiter;
+
+    private final PortWaiter portWaiter;
+
+    private final HttpWaiter httpWaiter;
+
+    private final HealthWaiter healthWaiter;
+
+    private final ExecWaiter execWaiter;
+
+    ContainerReadiness(DockerClientAdapter dockerClient) {
+        this.logWaiter = new LogWaiter(dockerClient);
+        this.portWaiter = new PortWaiter(dockerClient);
+        this.httpWaiter = new HttpWaiter(dockerClient);
+        this.healthWaiter = new HealthWaiter(dockerClient);
+        this.execWaiter = new ExecWaiter(dockerClient);
+    }
+
+    void waitUntilReady(String startedContainer, Docker dockerAnnotation, ReadinessConditions conditions,
+                        int previousStarts) {
+        timed(READINESS, startedContainer, () -> {
+            logWaiter.waitForLogAccordingTo(startedContainer, dockerAnnotation.waitFor(), conditions, previousStarts);
+            portWaiter.waitForPortsAccordingTo(startedContainer, dockerAnnotation);
+            httpWaiter.waitForHttpAccordingTo(startedContainer, dockerAnnotation);
+            healthWaiter.waitForHealthAccordingTo(startedContainer, dockerAnnotation);
+            execWaiter.waitForExecAccordingTo(startedContainer, dockerAnnotation);
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.junit5docker;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.CompletableFuture.runAsync;
+
+class ContainerReaper {
+
+    static final int PARALLEL_REMOVALS = 4;
+
+    private static final Logger LOGGER = Logger.getLogger(ContainerReaper.class.getName());
+
+    private static final long DRAINING_TIMEOUT_IN_SECONDS = 60;
+
+    private final DockerClientAdapter dockerClient;
+
+    private final ExecutorService removers;
+
+    ContainerReaper(DockerClientAdapter dockerClient, int parallelRemovals) {
+        this.dockerClient = dockerClient;
+        this.removers = Executors.newFixedThreadPool(parallelRemovals, new DaemonThreadFactory("junit5-docker-reaper"));
+    }
+
+    static ContainerReaper openForSession(DockerClientAdapter dockerClient, Consumer<Runnable> onSessionEnd) {
+        ContainerReaper reaper = new ContainerReaper(dockerClient, PARALLEL_REMOVALS);
+        onSessionEnd.accept(reaper::close);
+        return reaper;
+    }
+
+    void reap(String containerId) {
+        reap(containerId, dockerClient::stopAndRemoveContainer);
+    }
+
+    void reap(String containerId, Consumer<String> containerRemoval) {
+        runAsync(() -> containerRemoval.accept(containerId), removers)
+            .exceptionally(error -> {
+                if (LOGGER.isLoggable(Level.WARNING)) {
+                    LOGGER.log(Level.WARNING, "Could not remove container " + containerId, error);
+                }
+                return null;
+            });
+    }
+
+    void close() {
+        removers.shutdown();
+        try {
+            removers.awaitTermination(DRAINING_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
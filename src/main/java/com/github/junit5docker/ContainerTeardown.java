@@ -0,0 +1,41 @@
+package com.github.junit5docker;
+
+import java.util.function.Supplier;
+
+class ContainerTeardown {
+
+    private final DockerClientAdapter dockerClient;
+
+    private final Teardown teardown;
+
+    private final Supplier<ContainerReaper> containerReaper;
+
+    ContainerTeardown(DockerClientAdapter dockerClient, Teardown teardown, Supplier<ContainerReaper> containerReaper) {
+        this.dockerClient = dockerClient;
+        this.teardown = teardown;
+        this.containerReaper = containerReaper;
+    }
+
+    void remove(String containerId) {
+        if (teardown.inBackground()) {
+            containerReaper.get().reap(containerId, this::removeNow);
+        } else {
+            removeNow(containerId);
+        }
+    }
+
+    void restart(String containerId) {
+        dockerClient.restartContainer(containerId, teardown.stopTimeoutInSeconds());
+    }
+
+    private void removeNow(String containerId) {
+        int stopTimeout = teardown.stopTimeoutInSeconds();
+        if (teardown.strategy() == Teardown.Strategy.KILL) {
+            dockerClient.killAndRemoveContainer(containerId);
+        } else if (stopTimeout == Teardown.DOCKER_DEFAULT_TIMEOUT) {
+            dockerClient.stopAndRemoveContainer(containerId);
+        } else {
+            dockerClient.stopAndRemoveContainer(containerId, stopTimeout);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.junit5docker;
+
+import java.util.concurrent.ThreadFactory;
+
+final class DaemonThreadFactory implements ThreadFactory {
+
+    private final String threadName;
+
+    DaemonThreadFactory(String threadName) {
+        this.threadName = threadName;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, threadName);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
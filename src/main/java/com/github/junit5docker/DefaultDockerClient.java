@@ -1,87 +1,198 @@
 package com.github.junit5docker;
 
 import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.RestartContainerCmd;
+import com.github.dockerjava.api.command.StopContainerCmd;
 import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.api.model.ExposedPort;
 import com.github.dockerjava.api.model.Ports;
-import com.github.dockerjava.core.DockerClientBuilder;
 import com.github.dockerjava.core.command.PullImageResultCallback;
 
+import java.io.Closeable;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.github.dockerjava.api.model.ExposedPort.tcp;
 import static com.github.dockerjava.api.model.Ports.Binding.bindPort;
-import static com.github.dockerjava.core.DefaultDockerClientConfig.createDefaultConfigBuilder;
+import static com.github.dockerjava.api.model.Ports.Binding.empty;
+import static com.github.junit5docker.LifecyclePhase.CREATE;
+import static com.github.junit5docker.LifecyclePhase.INSPECT;
+import static com.github.junit5docker.LifecyclePhase.PULL;
+import static com.github.junit5docker.LifecyclePhase.REMOVE;
+import static com.github.junit5docker.LifecyclePhase.RESTART;
+import static com.github.junit5docker.LifecyclePhase.START;
+import static com.github.junit5docker.LifecyclePhase.STOP;
+import static com.github.junit5docker.LifecycleTimings.timed;
+import static com.github.junit5docker.SessionResources.session;
+import static com.github.junit5docker.VerifiedImages.verifiedImages;
+import static com.github.junit5docker.VerifiedImages.withVersion;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 class DefaultDockerClient implements DockerClientAdapter {
 
-    private final DockerClient dockerClient;
+    private final BackgroundDockerClient dockerClient;
 
     DefaultDockerClient() {
-        dockerClient = DockerClientBuilder.getInstance(createDefaultConfigBuilder().withApiVersion("1.22")).build();
+        this(BackgroundDockerClient::buildClient);
+    }
+
+    DefaultDockerClient(Supplier<DockerClient> clientBuilder) {
+        dockerClient = new BackgroundDockerClient(clientBuilder);
+    }
+
+    static DefaultDockerClient shared() {
+        return SharedClient.JVM_CLIENT;
+    }
+
+    void close() {
+        dockerClient.close();
+    }
+
+    private DockerClient client() {
+        return dockerClient.get();
     }
 
     @Override
     public String startContainer(String wantedImage, Map<String, String> environment, PortBinding... portBinding) {
         Ports bindings = createPortBindings(portBinding);
-        List<String> environmentStrings = createEnvironmentList(environment);
+        List<String> environmentStrings = environment.entrySet().stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue())
+            .collect(toList());
         String containerId = createContainer(wantedImage, bindings, environmentStrings);
-        dockerClient.startContainerCmd(containerId).exec();
+        timed(START, containerId, () -> client().startContainerCmd(containerId).exec());
         return containerId;
     }
 
     @Override
     public void stopAndRemoveContainer(String containerId) {
-        dockerClient.stopContainerCmd(containerId).exec();
-        dockerClient.removeContainerCmd(containerId).withRemoveVolumes(true).exec();
+        stopAndRemoveContainer(containerId, Teardown.DOCKER_DEFAULT_TIMEOUT);
+    }
+
+    @Override
+    public void stopAndRemoveContainer(String containerId, int stopTimeoutInSeconds) {
+        StopContainerCmd stopContainerCmd = client().stopContainerCmd(containerId);
+        if (stopTimeoutInSeconds != Teardown.DOCKER_DEFAULT_TIMEOUT) {
+            stopContainerCmd.withTimeout(stopTimeoutInSeconds);
+        }
+        timed(STOP, containerId, stopContainerCmd::exec);
+        timed(REMOVE, containerId, () -> client().removeContainerCmd(containerId).withRemoveVolumes(true).exec());
+    }
+
+    @Override
+    public void killAndRemoveContainer(String containerId) {
+        timed(REMOVE, containerId, () -> client().removeContainerCmd(containerId)
+            .withForce(true)
+            .withRemoveVolumes(true)
+            .exec());
+    }
+
+    @Override
+    public void restartContainer(String containerId, int stopTimeoutInSeconds) {
+        RestartContainerCmd restartContainerCmd = client().restartContainerCmd(containerId);
+        if (stopTimeoutInSeconds != Teardown.DOCKER_DEFAULT_TIMEOUT) {
+            restartContainerCmd.withtTimeout(stopTimeoutInSeconds);
+        }
+        timed(RESTART, containerId, restartContainerCmd::exec);
+    }
+
+    @Override
+    public Map<Integer, Integer> mappedPorts(String containerId) {
+        Map<ExposedPort, Ports.Binding[]> bindings = client().inspectContainerCmd(containerId).exec()
+            .getNetworkSettings().getPorts().getBindings();
+        return bindings.entrySet().stream()
+            .filter(binding -> binding.getValue() != null && binding.getValue().length > 0)
+            .collect(toMap(binding -> binding.getKey().getPort(),
+                binding -> Integer.valueOf(binding.getValue()[0].getHostPortSpec())));
     }
 
     @Override
     public Stream<String> logs(String containerId) {
-        return dockerClient.logContainerCmd(containerId).withFollowStream(true)
+        return followLogs(containerId, new StreamLog()).stream();
+    }
+
+    @Override
+    public Stream<byte[]> rawLogs(String containerId) {
+        return followLogs(containerId, new FrameLog()).stream();
+    }
+
+    private <T extends AbstractBufferedLog<?>> T followLogs(String containerId, T log) {
+        return client().logContainerCmd(containerId).withFollowStream(true)
                 .withStdOut(true)
                 .withStdErr(true)
-                .exec(new StreamLog())
-                .stream();
+                .exec(log);
     }
 
-    private String createContainer(String wantedImage, Ports bindings, List<String> environmentStrings) {
-        String imageWithVersion = wantedImage;
-        if (!imageWithVersion.contains(":")) {
-            imageWithVersion += ":latest";
+    @Override
+    public String healthStatus(String containerId) {
+        return ReadinessCommands.status(client(), containerId);
+    }
+
+    @Override
+    public Closeable followEvents(String containerId, Consumer<String> eventListener) {
+        return ReadinessCommands.followEvents(client(), containerId, eventListener);
+    }
+
+    @Override
+    public int execute(String containerId, long timeoutInMillis, Consumer<String> outputListener,
+                       String... command) {
+        String execId = ReadinessCommands.createExec(client(), containerId, command);
+        return ReadinessCommands.runExec(client(), execId, timeoutInMillis, outputListener);
+    }
+
+    @Override
+    public void ensureImageExists(String wantedImage) {
+        verifiedImages().verify(withVersion(wantedImage), this::inspectOrPullImage);
+    }
+
+    private void inspectOrPullImage(String imageWithVersion) {
+        try {
+            timed(INSPECT, imageWithVersion, () -> client().inspectImageCmd(imageWithVersion).exec());
+        } catch (NotFoundException e) {
+            timed(PULL, imageWithVersion, () -> client().pullImageCmd(imageWithVersion)
+                .exec(new PullImageResultCallback())
+                .awaitSuccess());
         }
+    }
+
+    private String createContainer(String wantedImage, Ports bindings, List<String> environmentStrings) {
+        String imageWithVersion = withVersion(wantedImage);
         this.ensureImageExists(imageWithVersion);
-        return dockerClient.createContainerCmd(imageWithVersion)
-                .withEnv(environmentStrings)
-                .withPortBindings(bindings)
-                .exec().getId();
+        try {
+            return createContainerFromVerifiedImage(imageWithVersion, bindings, environmentStrings);
+        } catch (NotFoundException e) {
+            verifiedImages().forget(imageWithVersion);
+            this.ensureImageExists(imageWithVersion);
+            return createContainerFromVerifiedImage(imageWithVersion, bindings, environmentStrings);
+        }
     }
 
-    private List<String> createEnvironmentList(Map<String, String> environment) {
-        return environment.entrySet().stream().map(this::toEnvString).collect(toList());
+    private String createContainerFromVerifiedImage(String imageWithVersion, Ports bindings,
+                                                    List<String> environmentStrings) {
+        return timed(CREATE, imageWithVersion, () -> client().createContainerCmd(imageWithVersion)
+                .withEnv(environmentStrings)
+                .withPortBindings(bindings)
+                .exec().getId());
     }
 
     private Ports createPortBindings(PortBinding... portBinding) {
         Ports bindings = new Ports();
         for (PortBinding binding : portBinding) {
             ExposedPort inner = tcp(binding.inner);
-            bindings.bind(inner, bindPort(binding.exposed));
+            bindings.bind(inner, binding.exposed == Port.ANY_FREE_PORT ? empty() : bindPort(binding.exposed));
         }
         return bindings;
     }
 
-    private String toEnvString(Map.Entry<String, String> environmentEntry) {
-        return environmentEntry.getKey() + "=" + environmentEntry.getValue();
-    }
+    private static final class SharedClient {
 
-    private void ensureImageExists(String wantedImage) {
-        try {
-            dockerClient.inspectImageCmd(wantedImage).exec();
-        } catch (NotFoundException e) {
-            dockerClient.pullImageCmd(wantedImage).exec(new PullImageResultCallback()).awaitSuccess();
+        private static final DefaultDockerClient JVM_CLIENT = new DefaultDockerClient();
+
+        static {
+            session().onClose(JVM_CLIENT::close);
         }
     }
 }
@@ -19,7 +19,7 @@ import static com.github.junit5docker.WaitFor.NOTHING;
  */
 @Target({ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
-@ExtendWith(DockerExtension.class)
+@ExtendWith({DockerExtension.class, MappedPortResolver.class})
 public @interface Docker {
 
     /**
@@ -46,9 +46,74 @@ public @interface Docker {
      */
     WaitFor waitFor() default @WaitFor(NOTHING);
 
+    /**
+     * @return whether to wait for the declared ports to accept connections before running the tests.
+     * @see WaitForPorts
+     * @since 1.1
+     */
+    WaitForPorts waitForPorts() default @WaitForPorts(false);
+
+    /**
+     * @return the optional HTTP endpoint to wait for before running the tests.
+     * @see WaitForHttp
+     * @since 1.1
+     */
+    WaitForHttp waitForHttp() default @WaitForHttp(WaitForHttp.NOTHING);
+
+    /**
+     * @return whether to wait for the container's health check to succeed before running the tests.
+     * @see WaitForHealth
+     * @since 1.1
+     */
+    WaitForHealth waitForHealth() default @WaitForHealth(false);
+
+    /**
+     * @return the command to run in the container until it succeeds before running the tests.
+     * @see WaitForExec
+     * @since 1.1
+     */
+    WaitForExec waitForExec() default @WaitForExec({});
+
     /**
      * @return true if the container should be recreated for each test case.
      * False if it should be created only once for the test class.
      */
     boolean newForEachCase() default true;
+
+    /**
+     * <p>Only used when {@link #newForEachCase()} is true.</p>
+     *
+     * <p>Standby containers are started, and waited for, in background before the test cases need them. Each test
+     * case takes one of these ready containers and another one is started in background to replace it.</p>
+     *
+     * <p>Be aware that the standby containers still running when all the tests of the class are finished are
+     * started for nothing.</p>
+     *
+     * <p>Since the standby containers run alongside the one used by the test, their ports should be bound to
+     * {@link Port#ANY_FREE_PORT}.</p>
+     *
+     * @return the number of ready containers to keep in reserve. 0 if containers should be started when needed.
+     * @since 1.1
+     */
+    int standbyContainers() default 0;
+
+    /**
+     * <p>Only used when {@link #newForEachCase()} is false.</p>
+     *
+     * <p>A shared container is lent to every test class declaring the same image, environment variables and ports.
+     * It is started by the first of these classes and is only stopped once all the tests have been run.</p>
+     *
+     * <p>Be aware that the state of a shared container is kept between test classes.</p>
+     *
+     * @return true if the container should be shared with the other test classes using the same definition.
+     * @since 1.1
+     */
+    boolean sharedBetweenClasses() default false;
+
+    /**
+     * @return the way the container is stopped and removed once the tests do not need it anymore.
+     * @see Teardown
+     * @since 1.1
+     */
+    Teardown teardown() default @Teardown;
 }
@@ -1,12 +1,32 @@
 package com.github.junit5docker;
 
+import java.io.Closeable;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 interface DockerClientAdapter {
+    void ensureImageExists(String wantedImage);
+
     String startContainer(String wantedImage, Map<String, String> environment, PortBinding... portBinding);
 
     void stopAndRemoveContainer(String containerId);
 
+    void stopAndRemoveContainer(String containerId, int stopTimeoutInSeconds);
+
+    void killAndRemoveContainer(String containerId);
+
+    void restartContainer(String containerId, int stopTimeoutInSeconds);
+
+    Map<Integer, Integer> mappedPorts(String containerId);
+
     Stream<String> logs(String containerId);
+
+    Stream<byte[]> rawLogs(String containerId);
+
+    String healthStatus(String containerId);
+
+    Closeable followEvents(String containerId, Consumer<String> eventListener);
+
+    int execute(String containerId, long timeoutInMillis, Consumer<String> outputListener, String... command);
 }
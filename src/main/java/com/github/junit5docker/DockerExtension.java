@@ -5,120 +5,213 @@ import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.platform.commons.util.AnnotationUtils;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
-import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static com.github.junit5docker.LifecycleTimings.recordTimings;
 
 class DockerExtension implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback {
 
+    private static final Namespace NAMESPACE = Namespace.create(DockerExtension.class);
+
+    private static final String CONTAINER_ID = "containerId";
+
+    // loaded with this class so that the client is built while JUnit prepares the tests
+    private static final DockerClientAdapter SHARED_CLIENT = DefaultDockerClient.shared();
+
     private final DockerClientAdapter dockerClient;
 
-    private String containerId;
+    private final ContainerReadiness containerReadiness;
+
+    private final SessionResources sessionResources;
 
     DockerExtension() {
-        this(new DefaultDockerClient());
+        this(SHARED_CLIENT);
     }
 
     DockerExtension(DockerClientAdapter dockerClient) {
+        this(dockerClient, SessionResources.session());
+    }
+
+    DockerExtension(DockerClientAdapter dockerClient, SessionResources sessionResources) {
         this.dockerClient = dockerClient;
+        this.sessionResources = sessionResources;
+        this.containerReadiness = new ContainerReadiness(dockerClient);
     }
 
     @Override
     public void beforeAll(ExtensionContext containerExtensionContext) {
-        Docker dockerAnnotation = findDockerAnnotation(containerExtensionContext);
-        if (!dockerAnnotation.newForEachCase()) startContainer(dockerAnnotation);
+        recordTimings(containerExtensionContext, () -> {
+            Docker dockerAnnotation = findDockerAnnotation(containerExtensionContext);
+            if (dockerAnnotation.newForEachCase()) {
+                prepareRecycling(containerExtensionContext, dockerAnnotation);
+                prepareStandbyContainers(containerExtensionContext, dockerAnnotation);
+            } else {
+                startContainer(containerExtensionContext, dockerAnnotation);
+            }
+        });
     }
 
     @Override
     public void beforeEach(ExtensionContext context) {
-        Docker dockerAnnotation = findDockerAnnotation(context);
-        if (dockerAnnotation.newForEachCase()) startContainer(dockerAnnotation);
-    }
-
-    private void startContainer(Docker dockerAnnotation) {
-        PortBinding[] portBindings = createPortBindings(dockerAnnotation);
-        Map<String, String> environmentMap = createEnvironmentMap(dockerAnnotation);
-        String imageReference = findImageName(dockerAnnotation);
-        WaitFor waitFor = dockerAnnotation.waitFor();
-        containerId = dockerClient.startContainer(imageReference, environmentMap, portBindings);
-        waitForLogAccordingTo(waitFor);
-    }
-
-    private void waitForLogAccordingTo(WaitFor waitFor) {
-        String expectedLog = waitFor.value();
-        if (!WaitFor.NOTHING.equals(expectedLog)) {
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            CompletableFuture<Boolean> logFound = supplyAsync(findFirstLogContaining(expectedLog), executor);
-            executor.shutdown();
-            try {
-                boolean termination = executor.awaitTermination(waitFor.timeoutInMillis(), TimeUnit.MILLISECONDS);
-                if (!termination) {
-                    throw new AssertionError("Timeout while waiting for log : \"" + expectedLog + "\"");
-                }
-                if (!logFound.getNow(false)) {
-                    throw new AssertionError("\"" + expectedLog + "\" not found in logs and container stopped");
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        recordTimings(context, () -> {
+            Docker dockerAnnotation = findDockerAnnotation(context);
+            if (!dockerAnnotation.newForEachCase()) return;
+            RestartedContainer restartedContainer = reuseRestartedContainer(context);
+            if (restartedContainer == null) {
+                startOrTakeStandbyContainer(context, dockerAnnotation);
+            } else {
+                String containerId = restartedContainer.getContainerId();
+                useContainer(context, containerId);
+                context.getStore(NAMESPACE).put(RestartedContainer.class, restartedContainer);
+                containerReadiness.waitUntilReady(containerId, dockerAnnotation,
+                    inSession(context, ReadinessConditions.class, ReadinessConditions::new),
+                    restartedContainer.getRestarts());
             }
+        });
+    }
+
+    private void startOrTakeStandbyContainer(ExtensionContext context, Docker dockerAnnotation) {
+        StandbyContainers standbyContainers = context.getStore(NAMESPACE)
+            .get(StandbyContainers.class, StandbyContainers.class);
+        if (standbyContainers == null) {
+            startContainer(context, dockerAnnotation);
+        } else {
+            useContainer(context, standbyContainers.take());
         }
     }
 
-    private Supplier<Boolean> findFirstLogContaining(String logToFind) {
-        return () -> {
-            try (Stream<String> logs = dockerClient.logs(containerId)) {
-                return logs.anyMatch(log -> log.contains(logToFind));
-            }
-        };
+    static String startedContainer(ExtensionContext context) {
+        return context.getStore(NAMESPACE).get(CONTAINER_ID, String.class);
     }
 
-    private Docker findDockerAnnotation(ExtensionContext extensionContext) {
-        Class<?> testClass = extensionContext.getTestClass().get();
-        return AnnotationUtils.findAnnotation(testClass, Docker.class).orElseThrow(
-            () -> new IllegalStateException(String.format("Could not find @Docker on class %s", testClass.getName())));
+    private void useContainer(ExtensionContext context, String containerId) {
+        context.getStore(NAMESPACE).put(CONTAINER_ID, containerId);
+    }
+
+    private String releaseContainer(ExtensionContext context) {
+        return context.getStore(NAMESPACE).remove(CONTAINER_ID, String.class);
     }
 
-    private String findImageName(Docker dockerAnnotation) {
-        return dockerAnnotation.image();
+    private RestartedContainer reuseRestartedContainer(ExtensionContext context) {
+        RecycledContainers recycledContainers = context.getStore(NAMESPACE)
+            .get(RecycledContainers.class, RecycledContainers.class);
+        return recycledContainers == null ? null : recycledContainers.reuse();
     }
 
-    private Map<String, String> createEnvironmentMap(Docker dockerAnnotation) {
-        Map<String, String> environmentMap = new HashMap<>();
-        Environment[] environments = dockerAnnotation.environments();
-        for (Environment environment : environments) {
-            environmentMap.put(environment.key(), environment.value());
+    private void startContainer(ExtensionContext context, Docker dockerAnnotation) {
+        ContainerDefinition containerDefinition = ContainerDefinition.from(dockerAnnotation);
+        String containerId;
+        if (isShared(dockerAnnotation)) {
+            ContainerPool containerPool = inSession(context, ContainerPool.class,
+                () -> ContainerPool.openForSession(dockerClient, sessionResources::onClose));
+            containerId = containerPool.lendContainer(containerDefinition);
+        } else {
+            containerId = containerDefinition.startWith(dockerClient);
         }
-        return environmentMap;
+        // used before it is ready so that the container is removed after the tests even if it never gets ready
+        useContainer(context, containerId);
+        containerReadiness.waitUntilReady(containerId, dockerAnnotation,
+            inSession(context, ReadinessConditions.class, ReadinessConditions::new), 0);
+    }
+
+    private void prepareRecycling(ExtensionContext context, Docker dockerAnnotation) {
+        if (dockerAnnotation.teardown().strategy() != Teardown.Strategy.RESTART) return;
+        context.getStore(NAMESPACE).put(RecycledContainers.class, new RecycledContainers());
+    }
+
+    private void prepareStandbyContainers(ExtensionContext context, Docker dockerAnnotation) {
+        if (dockerAnnotation.standbyContainers() <= 0) return;
+        ContainerDefinition containerDefinition = ContainerDefinition.from(dockerAnnotation);
+        ReadinessConditions readinessConditions = inSession(context, ReadinessConditions.class,
+            ReadinessConditions::new);
+        StandbyContainers standbyContainers = new StandbyContainers(dockerAnnotation.standbyContainers(),
+            () -> startReadyContainer(containerDefinition, dockerAnnotation, readinessConditions),
+            standbyContainer -> removeContainer(context, dockerAnnotation, standbyContainer));
+        context.getStore(NAMESPACE).put(StandbyContainers.class, standbyContainers);
     }
 
-    private PortBinding[] createPortBindings(Docker dockerAnnotation) {
-        Port[] ports = dockerAnnotation.ports();
-        PortBinding[] portBindings = new PortBinding[ports.length];
-        for (int i = 0; i < ports.length; i++) {
-            Port port = ports[i];
-            portBindings[i] = new PortBinding(port.exposed(), port.inner());
+    private String startReadyContainer(ContainerDefinition containerDefinition, Docker dockerAnnotation,
+                                       ReadinessConditions readinessConditions) {
+        String startedContainer = containerDefinition.startWith(dockerClient);
+        boolean ready = false;
+        try {
+            containerReadiness.waitUntilReady(startedContainer, dockerAnnotation, readinessConditions, 0);
+            ready = true;
+        } finally {
+            if (!ready) dockerClient.stopAndRemoveContainer(startedContainer);
         }
-        return portBindings;
+        return startedContainer;
+    }
+
+    private boolean isShared(Docker dockerAnnotation) {
+        return !dockerAnnotation.newForEachCase() && dockerAnnotation.sharedBetweenClasses();
+    }
+
+    private <T> T inSession(ExtensionContext context, Class<T> type, Supplier<T> opening) {
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(type, key -> opening.get(), type);
+    }
+
+    private Docker findDockerAnnotation(ExtensionContext extensionContext) {
+        Class<?> testClass = extensionContext.getTestClass().get();
+        return AnnotationUtils.findAnnotation(testClass, Docker.class).orElseThrow(
+            () -> new IllegalStateException(String.format("Could not find @Docker on class %s", testClass.getName())));
     }
 
     @Override
     public void afterAll(ExtensionContext containerExtensionContext) {
-        Docker dockerAnnotation = findDockerAnnotation(containerExtensionContext);
-        if (!dockerAnnotation.newForEachCase()) dockerClient.stopAndRemoveContainer(containerId);
+        recordTimings(containerExtensionContext, () -> {
+            Docker dockerAnnotation = findDockerAnnotation(containerExtensionContext);
+            String containerId = releaseContainer(containerExtensionContext);
+            if (containerId != null && !isShared(dockerAnnotation)) {
+                removeContainer(containerExtensionContext, dockerAnnotation, containerId);
+            }
+            StandbyContainers standbyContainers = containerExtensionContext.getStore(NAMESPACE)
+                .remove(StandbyContainers.class, StandbyContainers.class);
+            if (standbyContainers != null) standbyContainers.close();
+            RecycledContainers recycledContainers = containerExtensionContext.getStore(NAMESPACE)
+                .remove(RecycledContainers.class, RecycledContainers.class);
+            if (recycledContainers != null) {
+                recycledContainers.removeAll(recycledContainer ->
+                    removeContainer(containerExtensionContext, dockerAnnotation, recycledContainer));
+            }
+        });
     }
 
     @Override
     public void afterEach(ExtensionContext context) {
-        Docker dockerAnnotation = findDockerAnnotation(context);
-        if (dockerAnnotation.newForEachCase()) dockerClient.stopAndRemoveContainer(containerId);
+        recordTimings(context, () -> {
+            Docker dockerAnnotation = findDockerAnnotation(context);
+            if (!dockerAnnotation.newForEachCase()) return;
+            String containerId = releaseContainer(context);
+            if (containerId == null) return;
+            RecycledContainers recycledContainers = context.getStore(NAMESPACE)
+                .get(RecycledContainers.class, RecycledContainers.class);
+            if (recycledContainers == null) {
+                removeContainer(context, dockerAnnotation, containerId);
+            } else {
+                restartContainer(context, dockerAnnotation, containerId, recycledContainers);
+            }
+        });
+    }
+
+    private void restartContainer(ExtensionContext context, Docker dockerAnnotation, String containerId,
+                                  RecycledContainers recycledContainers) {
+        RestartedContainer usedContainer = context.getStore(NAMESPACE)
+            .get(RestartedContainer.class, RestartedContainer.class);
+        int previousRestarts = usedContainer == null ? 0 : usedContainer.getRestarts();
+        containerTeardown(context, dockerAnnotation).restart(containerId);
+        recycledContainers.recycle(containerId, previousRestarts + 1);
+    }
+
+    private void removeContainer(ExtensionContext context, Docker dockerAnnotation, String removedContainer) {
+        containerTeardown(context, dockerAnnotation).remove(removedContainer);
+    }
+
+    private ContainerTeardown containerTeardown(ExtensionContext context, Docker dockerAnnotation) {
+        return new ContainerTeardown(dockerClient, dockerAnnotation.teardown(), () -> inSession(context,
+            ContainerReaper.class, () -> ContainerReaper.openForSession(dockerClient, sessionResources::onClose)));
     }
 }
@@ -0,0 +1,50 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.core.command.ExecStartResultCallback;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+class ExecOutput extends ExecStartResultCallback {
+
+    private final LineDecoder lineDecoder = new LineDecoder(StreamLog.logCharset());
+
+    private final Consumer<String> outputListener;
+
+    private final long timeoutInMillis;
+
+    ExecOutput(Consumer<String> outputListener, long timeoutInMillis) {
+        super();
+        this.outputListener = outputListener;
+        this.timeoutInMillis = timeoutInMillis;
+    }
+
+    boolean awaitExit() throws InterruptedException {
+        return awaitCompletion(timeoutInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onNext(Frame frame) {
+        try {
+            synchronized (lineDecoder) {
+                lineDecoder.decode(frame.getPayload(), outputListener::accept);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            synchronized (lineDecoder) {
+                lineDecoder.finish(outputListener::accept);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            super.onComplete();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.junit5docker;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+class ExecWaiter {
+
+    static final int SUCCESS = 0;
+
+    private static final Logger LOGGER = Logger.getLogger(ExecWaiter.class.getName());
+
+    private final DockerClientAdapter dockerClient;
+
+    private final ExecutorService executor;
+
+    ExecWaiter(DockerClientAdapter dockerClient) {
+        this(dockerClient, ReadinessExecutor.shared());
+    }
+
+    ExecWaiter(DockerClientAdapter dockerClient, ExecutorService executor) {
+        this.dockerClient = dockerClient;
+        this.executor = executor;
+    }
+
+    void waitForExecAccordingTo(String startedContainer, Docker dockerAnnotation) {
+        WaitForExec waitForExec = dockerAnnotation.waitForExec();
+        if (waitForExec.value().length == 0) return;
+        String[] command = waitForExec.value();
+        long start = System.nanoTime();
+        try {
+            int attempts = runUntilSuccess(startedContainer, command, start + MILLISECONDS.toNanos(
+                waitForExec.timeoutInMillis()));
+            if (LOGGER.isLoggable(Level.INFO)) {
+                long timeToReady = NANOSECONDS.toMillis(System.nanoTime() - start);
+                LOGGER.info(String.format("%s succeeded in container %s after %d ms and %d attempts",
+                    describe(command), startedContainer, timeToReady, attempts));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int runUntilSuccess(String container, String[] command, long deadline) throws InterruptedException {
+        Backoff backoff = new Backoff();
+        int attempts = 1;
+        int exitCode = attempt(container, command, deadline);
+        while (exitCode != SUCCESS) {
+            long remainingMillis = remainingMillis(deadline);
+            if (remainingMillis <= 0) {
+                throw new AssertionError(String.format("Timeout while waiting for %s to succeed in container %s,"
+                    + " last exit code was %d", describe(command), container, exitCode));
+            }
+            MILLISECONDS.sleep(Math.min(backoff.nextDelayInMillis(), remainingMillis));
+            exitCode = attempt(container, command, deadline);
+            attempts++;
+        }
+        return attempts;
+    }
+
+    private int attempt(String container, String[] command, long deadline) throws InterruptedException {
+        long start = System.nanoTime();
+        long remainingMillis = Math.max(0, remainingMillis(deadline));
+        try {
+            int exitCode = Futures.callWithTimeout(executor, () -> execute(container, remainingMillis, command),
+                remainingMillis, () -> String.format("Timeout while waiting for %s to succeed in container %s",
+                    describe(command), container));
+            logExit(container, command, exitCode, start);
+            return exitCode;
+        } catch (ExecutionException e) {
+            throw new AssertionError(String.format("Could not run %s in container %s", describe(command),
+                container), e);
+        }
+    }
+
+    private int execute(String container, long timeoutInMillis, String... command) {
+        return dockerClient.execute(container, timeoutInMillis, output -> logOutput(container, output), command);
+    }
+
+    private static void logExit(String container, String[] command, int exitCode, long start) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("%s exited with code %d in container %s after %d ms", describe(command),
+                exitCode, container, NANOSECONDS.toMillis(System.nanoTime() - start)));
+        }
+    }
+
+    private static void logOutput(String container, String output) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("[%s] %s", container, output));
+        }
+    }
+
+    private static String describe(String... command) {
+        return '`' + String.join(" ", command) + '`';
+    }
+
+    private static long remainingMillis(long deadline) {
+        return NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+}
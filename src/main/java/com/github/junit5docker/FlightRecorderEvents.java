@@ -0,0 +1,26 @@
+package com.github.junit5docker;
+
+final class FlightRecorderEvents {
+
+    // only built with the flight-recorder profile, on JDKs shipping jdk.jfr (8u262 and later)
+    static final String EVENTS_CLASS = "com.github.junit5docker.ContainerFlightEvents";
+
+    private static final LifecycleEvents EVENTS = load(EVENTS_CLASS);
+
+    private FlightRecorderEvents() {
+    }
+
+    static LifecycleEvent begin(LifecyclePhase phase) {
+        return EVENTS.begin(phase);
+    }
+
+    // the events are missing from builds without jdk.jfr and cannot be linked on JVMs without it
+    static LifecycleEvents load(String eventsClass) {
+        try {
+            Class<?> events = Class.forName(eventsClass, true, FlightRecorderEvents.class.getClassLoader());
+            return events.asSubclass(LifecycleEvents.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return LifecycleEvents.NONE;
+        }
+    }
+}
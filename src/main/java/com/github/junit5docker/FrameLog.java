@@ -0,0 +1,25 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.model.Frame;
+
+import static java.lang.Thread.currentThread;
+
+class FrameLog extends AbstractBufferedLog<byte[]> {
+
+    FrameLog() {
+        super();
+    }
+
+    FrameLog(int bufferCapacity, LogOverflow overflow) {
+        super(bufferCapacity, overflow);
+    }
+
+    @Override
+    public void onNext(Frame item) {
+        try {
+            push(item.getPayload());
+        } catch (InterruptedException e) {
+            currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.junit5docker;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+final class Futures {
+
+    private Futures() {
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    // the timeout only starts with the task, so that a check queued behind busy threads keeps its whole budget
+    static <T> T callWithTimeout(ExecutorService executor, Callable<T> task, long timeoutInMillis,
+                                 Supplier<String> timeoutMessage) throws InterruptedException, ExecutionException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<T> call = executor.submit(() -> {
+            started.countDown();
+            return task.call();
+        });
+        boolean done = false;
+        try {
+            started.await();
+            T result = call.get(timeoutInMillis, MILLISECONDS);
+            done = true;
+            return result;
+        } catch (TimeoutException e) {
+            throw new AssertionError(timeoutMessage.get(), e);
+        } finally {
+            // interrupts a task still running so that the executor's thread is given back
+            if (!done) call.cancel(true);
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof Error) throw (Error) cause;
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        return exception;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.junit5docker;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class HealthWaiter {
+
+    static final String NO_HEALTHCHECK = "none";
+
+    static final String HEALTHY = "healthy";
+
+    static final String UNHEALTHY = "unhealthy";
+
+    static final String STARTING = "starting";
+
+    static final String HEALTH_STATUS_EVENT = "health_status: ";
+
+    static final String DIE_EVENT = "die";
+
+    private static final String CONTAINER = "Container ";
+
+    private final DockerClientAdapter dockerClient;
+
+    HealthWaiter(DockerClientAdapter dockerClient) {
+        this.dockerClient = dockerClient;
+    }
+
+    void waitForHealthAccordingTo(String startedContainer, Docker dockerAnnotation) {
+        WaitForHealth waitForHealth = dockerAnnotation.waitForHealth();
+        if (!waitForHealth.value()) return;
+        CompletableFuture<String> healthy = new CompletableFuture<>();
+        Closeable events = dockerClient.followEvents(startedContainer,
+            event -> onEvent(startedContainer, event, healthy));
+        try {
+            onHealthStatus(startedContainer, dockerClient.healthStatus(startedContainer), healthy);
+            healthy.get(waitForHealth.timeoutInMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new AssertionError("Timeout while waiting for container " + startedContainer + " to be healthy", e);
+        } catch (ExecutionException e) {
+            throw new AssertionError(e.getCause().getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stopFollowing(events);
+        }
+    }
+
+    private static void stopFollowing(Closeable events) {
+        try {
+            events.close();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void onEvent(String container, String event, CompletableFuture<String> healthy) {
+        if (DIE_EVENT.equals(event)) {
+            healthy.completeExceptionally(new AssertionError(CONTAINER + container + " died"));
+        } else if (event != null && event.startsWith(HEALTH_STATUS_EVENT)) {
+            onHealthStatus(container, event.substring(HEALTH_STATUS_EVENT.length()), healthy);
+        }
+    }
+
+    private static void onHealthStatus(String container, String status, CompletableFuture<String> healthy) {
+        switch (status) {
+            case HEALTHY:
+                healthy.complete(status);
+                break;
+            case STARTING:
+                break;
+            case UNHEALTHY:
+                healthy.completeExceptionally(new AssertionError(CONTAINER + container + " is unhealthy"));
+                break;
+            case NO_HEALTHCHECK:
+                healthy.completeExceptionally(new AssertionError(CONTAINER + container + " has no health check"));
+                break;
+            default:
+                healthy.completeExceptionally(new AssertionError(CONTAINER + container + " is " + status));
+                break;
+        }
+    }
+}
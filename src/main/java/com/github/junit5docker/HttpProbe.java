@@ -0,0 +1,87 @@
+package com.github.junit5docker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+final class HttpProbe {
+
+    private static final int MAX_ATTEMPT_DURATION_IN_MILLIS = 1000;
+
+    private static final int FIRST_ERROR_STATUS = 400;
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final URL url;
+
+    private final int[] statusCodes;
+
+    private final Pattern bodyPattern;
+
+    private final Backoff backoff;
+
+    HttpProbe(URL url, WaitForHttp waitForHttp) {
+        this(url, waitForHttp, new Backoff());
+    }
+
+    HttpProbe(URL url, WaitForHttp waitForHttp, Backoff backoff) {
+        this.url = url;
+        this.statusCodes = waitForHttp.statusCodes().clone();
+        this.bodyPattern = Pattern.compile(waitForHttp.bodyPattern());
+        this.backoff = backoff;
+    }
+
+    boolean awaitReady(long timeoutInMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + MILLISECONDS.toNanos(timeoutInMillis);
+        while (remainingMillis(deadline) > 0) {
+            if (answersAsExpected(attemptDuration(deadline))) return true;
+            MILLISECONDS.sleep(Math.min(backoff.nextDelayInMillis(), remainingMillis(deadline)));
+        }
+        return false;
+    }
+
+    private boolean answersAsExpected(int attemptDurationInMillis) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(attemptDurationInMillis);
+            connection.setReadTimeout(attemptDurationInMillis);
+            int status = connection.getResponseCode();
+            String body = readBody(connection, status);
+            return Arrays.stream(statusCodes).anyMatch(code -> code == status) && bodyPattern.matcher(body).find();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String readBody(HttpURLConnection connection, int status) throws IOException {
+        InputStream bodyStream =
+            status < FIRST_ERROR_STATUS ? connection.getInputStream() : connection.getErrorStream();
+        if (bodyStream == null) return "";
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (InputStream input = bodyStream) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+                body.write(buffer, 0, read);
+            }
+        }
+        return new String(body.toByteArray(), UTF_8);
+    }
+
+    private static long remainingMillis(long deadline) {
+        return NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    private static int attemptDuration(long deadline) {
+        return (int) Math.max(1, Math.min(MAX_ATTEMPT_DURATION_IN_MILLIS, remainingMillis(deadline)));
+    }
+}
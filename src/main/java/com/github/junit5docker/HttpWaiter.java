@@ -0,0 +1,60 @@
+package com.github.junit5docker;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+class HttpWaiter {
+
+    private static final Logger LOGGER = Logger.getLogger(HttpWaiter.class.getName());
+
+    private final DockerClientAdapter dockerClient;
+
+    HttpWaiter(DockerClientAdapter dockerClient) {
+        this.dockerClient = dockerClient;
+    }
+
+    void waitForHttpAccordingTo(String startedContainer, Docker dockerAnnotation) {
+        WaitForHttp waitForHttp = dockerAnnotation.waitForHttp();
+        if (WaitForHttp.NOTHING.equals(waitForHttp.value())) return;
+        URL url = endpointOf(startedContainer, dockerAnnotation);
+        long start = System.nanoTime();
+        try {
+            if (!new HttpProbe(url, waitForHttp).awaitReady(waitForHttp.timeoutInMillis())) {
+                throw new AssertionError("Timeout while waiting for an answer of " + url);
+            }
+            if (LOGGER.isLoggable(Level.INFO)) {
+                long timeToReady = NANOSECONDS.toMillis(System.nanoTime() - start);
+                LOGGER.info(String.format("%s answered after %d ms", url, timeToReady));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private URL endpointOf(String startedContainer, Docker dockerAnnotation) {
+        int innerPort = innerPortOf(dockerAnnotation);
+        Integer mappedPort = dockerClient.mappedPorts(startedContainer).get(innerPort);
+        if (mappedPort == null) {
+            throw new AssertionError(String.format("Port %d is not mapped by container %s", innerPort,
+                startedContainer));
+        }
+        try {
+            return new URL("http", PortWaiter.DOCKER_HOST, mappedPort, dockerAnnotation.waitForHttp().value());
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid path " + dockerAnnotation.waitForHttp().value(), e);
+        }
+    }
+
+    private static int innerPortOf(Docker dockerAnnotation) {
+        int port = dockerAnnotation.waitForHttp().port();
+        if (port != WaitForHttp.FIRST_DECLARED_PORT) return port;
+        if (dockerAnnotation.ports().length == 0) {
+            throw new IllegalArgumentException("A port must be declared to wait for an HTTP answer");
+        }
+        return dockerAnnotation.ports()[0].inner();
+    }
+}
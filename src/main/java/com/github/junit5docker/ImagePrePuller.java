@@ -0,0 +1,108 @@
+package com.github.junit5docker;
+
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * <p>Pulls the images used by every {@link Docker} test class of the test plan before the first test runs.</p>
+ *
+ * <p>This listener is registered automatically on the JUnit platform launcher. Each image is pulled only once, a few
+ * of them at the same time, and the time spent getting each image ready is logged.</p>
+ *
+ * @since 1.1
+ */
+public final class ImagePrePuller implements TestExecutionListener {
+
+    static final int PARALLEL_PULLS = 4;
+
+    private static final Logger LOGGER = Logger.getLogger(ImagePrePuller.class.getName());
+
+    private final Supplier<DockerClientAdapter> dockerClient;
+
+    private final int parallelPulls;
+
+    /**
+     * Creates the listener registered on the JUnit platform launcher.
+     */
+    public ImagePrePuller() {
+        this(DefaultDockerClient::shared, PARALLEL_PULLS);
+    }
+
+    ImagePrePuller(Supplier<DockerClientAdapter> dockerClient, int parallelPulls) {
+        this.dockerClient = dockerClient;
+        this.parallelPulls = parallelPulls;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.JUnit4TestShouldUseTestAnnotation")
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        Set<String> images = imagesUsedBy(testPlan);
+        if (!images.isEmpty()) pullAll(images);
+    }
+
+    Map<String, Long> pullAll(Set<String> images) {
+        DockerClientAdapter client = dockerClient.get();
+        ExecutorService pullers = Executors.newFixedThreadPool(Math.min(parallelPulls, images.size()),
+            new DaemonThreadFactory("junit5-docker-pull"));
+        Map<String, Long> pullDurations = new ConcurrentHashMap<>();
+        try {
+            CompletableFuture.allOf(images.stream()
+                .map(image -> runAsync(() -> pullDurations.put(image, timePull(client, image)), pullers)
+                    .exceptionally(error -> logFailure(image, error)))
+                .toArray(CompletableFuture[]::new))
+                .join();
+        } finally {
+            pullers.shutdown();
+        }
+        return pullDurations;
+    }
+
+    private static long timePull(DockerClientAdapter client, String image) {
+        long start = System.nanoTime();
+        client.ensureImageExists(image);
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info(String.format("Image %s ready in %d ms", image, duration));
+        }
+        return duration;
+    }
+
+    private static Void logFailure(String image, Throwable error) {
+        if (LOGGER.isLoggable(Level.WARNING)) {
+            LOGGER.log(Level.WARNING, "Could not pull image " + image + " before running the tests", error);
+        }
+        return null;
+    }
+
+    private static Set<String> imagesUsedBy(TestPlan testPlan) {
+        return testPlan.getRoots().stream()
+            .flatMap(root -> testPlan.getDescendants(root).stream())
+            .map(TestIdentifier::getSource)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .filter(ClassSource.class::isInstance)
+            .map(source -> AnnotationUtils.findAnnotation(((ClassSource) source).getJavaClass(), Docker.class))
+            .filter(Optional::isPresent)
+            .map(docker -> docker.get().image())
+            .collect(toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.junit5docker;
+
+@FunctionalInterface
+interface LifecycleEvent {
+
+    LifecycleEvent NONE = (target, testClass) -> {
+    };
+
+    void end(String target, String testClass);
+}
@@ -0,0 +1,9 @@
+package com.github.junit5docker;
+
+@FunctionalInterface
+interface LifecycleEvents {
+
+    LifecycleEvents NONE = phase -> LifecycleEvent.NONE;
+
+    LifecycleEvent begin(LifecyclePhase phase);
+}
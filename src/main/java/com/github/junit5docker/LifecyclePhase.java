@@ -0,0 +1,11 @@
+package com.github.junit5docker;
+
+import java.util.Locale;
+
+enum LifecyclePhase {
+    INSPECT, PULL, CREATE, START, READINESS, RESTART, STOP, REMOVE;
+
+    String reportKey() {
+        return "junit5docker." + name().toLowerCase(Locale.ROOT) + ".millis";
+    }
+}
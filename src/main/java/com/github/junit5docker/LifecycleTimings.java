@@ -0,0 +1,78 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+final class LifecycleTimings {
+
+    private static final ThreadLocal<LifecycleTimings> RECORDING = new ThreadLocal<>();
+
+    private final Map<LifecyclePhase, Long> durationsInNanos = new EnumMap<>(LifecyclePhase.class);
+
+    private final LifecycleTimings enclosingRecording;
+
+    private final String testClass;
+
+    private LifecycleTimings(LifecycleTimings enclosingRecording, String testClass) {
+        this.enclosingRecording = enclosingRecording;
+        this.testClass = testClass;
+    }
+
+    static void recordTimings(ExtensionContext context, Runnable callback) {
+        LifecycleTimings recording = new LifecycleTimings(RECORDING.get(),
+            context.getTestClass().map(Class::getName).orElse(null));
+        RECORDING.set(recording);
+        try {
+            callback.run();
+        } finally {
+            recording.publishTo(context);
+        }
+    }
+
+    static <T> T timed(LifecyclePhase phase, String target, Supplier<T> action) {
+        LifecycleEvent event = FlightRecorderEvents.begin(phase);
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            LifecycleTimings recording = record(phase, System.nanoTime() - start);
+            event.end(target, recording == null ? null : recording.testClass);
+        }
+    }
+
+    static void timed(LifecyclePhase phase, String target, Runnable action) {
+        timed(phase, target, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void publishTo(ExtensionContext context) {
+        if (enclosingRecording == null) {
+            RECORDING.remove();
+        } else {
+            RECORDING.set(enclosingRecording);
+        }
+        Map<String, String> entries = reportEntries();
+        if (!entries.isEmpty()) context.publishReportEntry(entries);
+    }
+
+    private Map<String, String> reportEntries() {
+        Map<String, String> entries = new LinkedHashMap<>();
+        durationsInNanos.forEach((phase, duration) ->
+            entries.put(phase.reportKey(), String.valueOf(NANOSECONDS.toMillis(duration))));
+        return entries;
+    }
+
+    private static LifecycleTimings record(LifecyclePhase phase, long durationInNanos) {
+        LifecycleTimings recording = RECORDING.get();
+        if (recording != null) recording.durationsInNanos.merge(phase, durationInNanos, Long::sum);
+        return recording;
+    }
+}
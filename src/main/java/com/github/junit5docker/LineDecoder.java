@@ -0,0 +1,98 @@
+package com.github.junit5docker;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+final class LineDecoder {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final char END_OF_LINE = '\n';
+
+    private static final char CARRIAGE_RETURN = '\r';
+
+    private final CharsetDecoder decoder;
+
+    private final CharBuffer decodedChars = CharBuffer.allocate(BUFFER_SIZE);
+
+    private final StringBuilder currentLine = new StringBuilder();
+
+    private ByteBuffer leftBytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+    LineDecoder(Charset charset) {
+        this.decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    void decode(byte[] payload, LineConsumer lines) throws InterruptedException {
+        if (leftBytes.position() == 0) {
+            ByteBuffer bytes = ByteBuffer.wrap(payload);
+            decodeAvailable(bytes, lines);
+            leftBytes.put(bytes);
+        } else {
+            appendToLeftBytes(payload);
+            leftBytes.flip();
+            decodeAvailable(leftBytes, lines);
+            leftBytes.compact();
+        }
+    }
+
+    void finish(LineConsumer lines) throws InterruptedException {
+        leftBytes.flip();
+        decoder.decode(leftBytes, decodedChars, true);
+        decoder.flush(decodedChars);
+        emitLines(lines);
+        if (currentLine.length() > 0) emitCurrentLine(lines);
+        leftBytes.clear();
+        decoder.reset();
+    }
+
+    private void decodeAvailable(ByteBuffer bytes, LineConsumer lines) throws InterruptedException {
+        CoderResult result;
+        do {
+            result = decoder.decode(bytes, decodedChars, false);
+            emitLines(lines);
+        } while (result.isOverflow());
+    }
+
+    private void appendToLeftBytes(byte[] payload) {
+        if (leftBytes.remaining() < payload.length) {
+            ByteBuffer largerBuffer = ByteBuffer.allocate(leftBytes.position() + payload.length);
+            leftBytes.flip();
+            largerBuffer.put(leftBytes);
+            leftBytes = largerBuffer;
+        }
+        leftBytes.put(payload);
+    }
+
+    private void emitLines(LineConsumer lines) throws InterruptedException {
+        decodedChars.flip();
+        while (decodedChars.hasRemaining()) {
+            char decodedChar = decodedChars.get();
+            if (decodedChar == END_OF_LINE) {
+                emitCurrentLine(lines);
+            } else {
+                currentLine.append(decodedChar);
+            }
+        }
+        decodedChars.clear();
+    }
+
+    private void emitCurrentLine(LineConsumer lines) throws InterruptedException {
+        int length = currentLine.length();
+        if (length > 0 && currentLine.charAt(length - 1) == CARRIAGE_RETURN) currentLine.setLength(length - 1);
+        lines.accept(currentLine.toString());
+        currentLine.setLength(0);
+    }
+
+    @FunctionalInterface
+    interface LineConsumer {
+
+        void accept(String line) throws InterruptedException;
+    }
+}
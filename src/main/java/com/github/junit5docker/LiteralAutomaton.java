@@ -0,0 +1,100 @@
+package com.github.junit5docker;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+final class LiteralAutomaton {
+
+    static final int INITIAL_STATE = 0;
+
+    private static final int ALPHABET_SIZE = 256;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int NO_STATE = -1;
+
+    private final int[][] transitions;
+
+    private final int[][] matches;
+
+    LiteralAutomaton(List<byte[]> literals) {
+        List<int[]> trie = new ArrayList<>();
+        List<int[]> literalsEndingAt = new ArrayList<>();
+        addState(trie, literalsEndingAt);
+        for (int literal = 0; literal < literals.size(); literal++) {
+            int lastState = addToTrie(literals.get(literal), trie, literalsEndingAt);
+            literalsEndingAt.set(lastState, append(literalsEndingAt.get(lastState), literal));
+        }
+        completeTransitions(trie, literalsEndingAt);
+        this.transitions = trie.toArray(new int[trie.size()][]);
+        this.matches = literalsEndingAt.toArray(new int[literalsEndingAt.size()][]);
+    }
+
+    int next(int state, byte value) {
+        return transitions[state][value & BYTE_MASK];
+    }
+
+    int matchCount(int state) {
+        return matches[state].length;
+    }
+
+    int matchAt(int state, int index) {
+        return matches[state][index];
+    }
+
+    private static int addToTrie(byte[] literal, List<int[]> trie, List<int[]> literalsEndingAt) {
+        int state = INITIAL_STATE;
+        for (byte value : literal) {
+            int[] stateTransitions = trie.get(state);
+            if (stateTransitions[value & BYTE_MASK] == NO_STATE) {
+                stateTransitions[value & BYTE_MASK] = addState(trie, literalsEndingAt);
+            }
+            state = stateTransitions[value & BYTE_MASK];
+        }
+        return state;
+    }
+
+    private static void completeTransitions(List<int[]> trie, List<int[]> literalsEndingAt) {
+        int[] fallbacks = new int[trie.size()];
+        Queue<Integer> states = new ArrayDeque<>();
+        states.add(INITIAL_STATE);
+        while (!states.isEmpty()) {
+            int state = states.remove();
+            if (state != INITIAL_STATE) {
+                int[] inheritedLiterals = literalsEndingAt.get(fallbacks[state]);
+                literalsEndingAt.set(state, append(literalsEndingAt.get(state), inheritedLiterals));
+            }
+            completeTransitionsOf(state, trie, fallbacks, states);
+        }
+    }
+
+    private static void completeTransitionsOf(int state, List<int[]> trie, int[] fallbacks, Queue<Integer> states) {
+        int[] stateTransitions = trie.get(state);
+        for (int value = 0; value < ALPHABET_SIZE; value++) {
+            int fallbackNextState = state == INITIAL_STATE ? INITIAL_STATE : trie.get(fallbacks[state])[value];
+            if (stateTransitions[value] == NO_STATE) {
+                stateTransitions[value] = fallbackNextState;
+            } else {
+                fallbacks[stateTransitions[value]] = fallbackNextState;
+                states.add(stateTransitions[value]);
+            }
+        }
+    }
+
+    private static int addState(List<int[]> trie, List<int[]> literalsEndingAt) {
+        int[] stateTransitions = new int[ALPHABET_SIZE];
+        Arrays.fill(stateTransitions, NO_STATE);
+        trie.add(stateTransitions);
+        literalsEndingAt.add(new int[0]);
+        return trie.size() - 1;
+    }
+
+    private static int[] append(int[] values, int... appended) {
+        int[] result = Arrays.copyOf(values, values.length + appended.length);
+        System.arraycopy(appended, 0, result, values.length, appended.length);
+        return result;
+    }
+}
@@ -0,0 +1,5 @@
+package com.github.junit5docker;
+
+enum LogOverflow {
+    BLOCK, DROP_OLDEST, DROP_NEWEST
+}
@@ -0,0 +1,70 @@
+package com.github.junit5docker;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+class LogWaiter {
+
+    private final DockerClientAdapter dockerClient;
+
+    private final ExecutorService executor;
+
+    LogWaiter(DockerClientAdapter dockerClient) {
+        this(dockerClient, ReadinessExecutor.shared());
+    }
+
+    LogWaiter(DockerClientAdapter dockerClient, ExecutorService executor) {
+        this.dockerClient = dockerClient;
+        this.executor = executor;
+    }
+
+    void waitForLogAccordingTo(String startedContainer, WaitFor waitFor, ReadinessConditions conditions,
+                               int previousStarts) {
+        ReadinessCondition condition = conditions.compile(waitFor);
+        if (!condition.waitsForNothing()) {
+            ReadinessProgress progress = condition.newProgress(previousStarts + 1);
+            if (condition.searchesLines()) {
+                waitUntilFound(dockerClient.logs(startedContainer), progress::foundIn, condition, waitFor);
+            } else {
+                waitUntilFound(dockerClient.rawLogs(startedContainer), progress::foundIn, condition, waitFor);
+            }
+        }
+    }
+
+    private <T> void waitUntilFound(Stream<T> logs, Predicate<T> found, ReadinessCondition condition,
+                                    WaitFor waitFor) {
+        AtomicBoolean waiting = new AtomicBoolean(true);
+        try {
+            waitForCondition(() -> logs.anyMatch(log -> !waiting.get() || found.test(log)), condition,
+                waitFor.timeoutInMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waiting.set(false);
+            logs.close();
+        }
+    }
+
+    private void waitForCondition(Callable<Boolean> logFound, ReadinessCondition condition, int timeoutInMillis)
+        throws InterruptedException {
+        try {
+            if (!Futures.callWithTimeout(executor, logFound, timeoutInMillis,
+                () -> "Timeout while waiting for log : " + condition.describe())) {
+                throw new AssertionError(condition.describe() + " not found in logs and container stopped");
+            }
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof Error) throw (Error) cause;
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        return new IllegalStateException(cause);
+    }
+}
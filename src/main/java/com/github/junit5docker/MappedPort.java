@@ -0,0 +1,28 @@
+package com.github.junit5docker;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Injects the host port bound to a port of the container started by {@link Docker}.</p>
+ *
+ * <p>This is the way to know which port docker chose when {@link Port#exposed()} is {@link Port#ANY_FREE_PORT}.
+ * The annotated parameter must be an <code>int</code> or an {@link Integer}.</p>
+ *
+ * <p>Test methods can always use it. Constructors and <code>@BeforeAll</code> methods can only use it when
+ * {@link Docker#newForEachCase()} is false since no container is started yet otherwise.</p>
+ *
+ * @since 1.1
+ */
+@Target({ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MappedPort {
+
+    /**
+     * @return the port number used by the application inside the container.
+     * @see Port#inner()
+     */
+    int value();
+}
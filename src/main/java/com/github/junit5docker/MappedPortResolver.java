@@ -0,0 +1,44 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import java.lang.reflect.Parameter;
+
+class MappedPortResolver implements ParameterResolver {
+
+    private final DockerClientAdapter dockerClient;
+
+    MappedPortResolver() {
+        this(DefaultDockerClient.shared());
+    }
+
+    MappedPortResolver(DockerClientAdapter dockerClient) {
+        this.dockerClient = dockerClient;
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Parameter parameter = parameterContext.getParameter();
+        if (!parameter.isAnnotationPresent(MappedPort.class)) return false;
+        return parameter.getType() == int.class || parameter.getType() == Integer.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        int innerPort = parameterContext.getParameter().getAnnotation(MappedPort.class).value();
+        String containerId = DockerExtension.startedContainer(extensionContext);
+        if (containerId == null) {
+            throw new ParameterResolutionException(
+                String.format("No container is started yet to resolve the port mapped to %d", innerPort));
+        }
+        Integer mappedPort = dockerClient.mappedPorts(containerId).get(innerPort);
+        if (mappedPort == null) {
+            throw new ParameterResolutionException(
+                String.format("Port %d is not mapped by container %s", innerPort, containerId));
+        }
+        return mappedPort;
+    }
+}
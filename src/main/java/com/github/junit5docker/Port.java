@@ -7,10 +7,17 @@ package com.github.junit5docker;
  */
 public @interface Port {
 
+    /**
+     * <p>Special value.
+     * If used as {@link #exposed()}, docker binds the container's port to any free port of the host.</p>
+     * <p>The chosen port can be injected in the tests with {@link MappedPort}.</p>
+     */
+    static final int ANY_FREE_PORT = 0;
+
     /**
      * This is the port number to use in the test code for data exchange with the container.
      *
-     * @return the port number exposed on the host.
+     * @return the port number exposed on the host or {@link #ANY_FREE_PORT} to let docker choose it.
      */
     int exposed();
 
@@ -0,0 +1,122 @@
+package com.github.junit5docker;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+final class PortProbe {
+
+    private final Set<InetSocketAddress> closedPorts;
+
+    private final Map<InetSocketAddress, Long> nextAttempts = new HashMap<>();
+
+    private final Map<InetSocketAddress, Backoff> backoffs = new HashMap<>();
+
+    private final Supplier<Backoff> backoffSupplier;
+
+    PortProbe(List<InetSocketAddress> ports) {
+        this(ports, Backoff::new);
+    }
+
+    PortProbe(List<InetSocketAddress> ports, Supplier<Backoff> backoffSupplier) {
+        this.closedPorts = new HashSet<>(ports);
+        this.backoffSupplier = backoffSupplier;
+    }
+
+    boolean awaitAccepting(long timeoutInMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + MILLISECONDS.toNanos(timeoutInMillis);
+        closedPorts.forEach(port -> nextAttempts.put(port, System.nanoTime()));
+        try (Selector selector = Selector.open()) {
+            try {
+                return probeUntil(selector, deadline);
+            } finally {
+                closeChannels(selector);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not probe ports " + closedPorts, e);
+        }
+    }
+
+    private boolean probeUntil(Selector selector, long deadline) throws IOException, InterruptedException {
+        while (!closedPorts.isEmpty()) {
+            long now = System.nanoTime();
+            if (now - deadline >= 0) return false;
+            connectDuePorts(selector, now);
+            selector.select(Math.max(1, NANOSECONDS.toMillis(nextWakeUp(deadline) - now)));
+            if (Thread.interrupted()) throw new InterruptedException();
+            for (SelectionKey key : selector.selectedKeys()) {
+                finishConnection(key);
+            }
+            selector.selectedKeys().clear();
+        }
+        return true;
+    }
+
+    private void connectDuePorts(Selector selector, long now) throws IOException {
+        Set<InetSocketAddress> duePorts = new HashSet<>();
+        nextAttempts.forEach((port, nextAttempt) -> {
+            if (nextAttempt - now <= 0) duePorts.add(port);
+        });
+        for (InetSocketAddress port : duePorts) {
+            nextAttempts.remove(port);
+            SocketChannel channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            try {
+                if (channel.connect(port)) {
+                    accepted(port, channel);
+                } else {
+                    channel.register(selector, SelectionKey.OP_CONNECT, port);
+                }
+            } catch (IOException e) {
+                refused(port, channel);
+            }
+        }
+    }
+
+    private void finishConnection(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        InetSocketAddress port = (InetSocketAddress) key.attachment();
+        key.cancel();
+        try {
+            if (channel.finishConnect()) accepted(port, channel);
+        } catch (IOException e) {
+            refused(port, channel);
+        }
+    }
+
+    private void accepted(InetSocketAddress port, SocketChannel channel) throws IOException {
+        closedPorts.remove(port);
+        channel.close();
+    }
+
+    private void refused(InetSocketAddress port, SocketChannel channel) throws IOException {
+        channel.close();
+        long delay = backoffs.computeIfAbsent(port, key -> backoffSupplier.get()).nextDelayInMillis();
+        nextAttempts.put(port, System.nanoTime() + MILLISECONDS.toNanos(delay));
+    }
+
+    private long nextWakeUp(long deadline) {
+        long wakeUp = deadline;
+        for (long nextAttempt : nextAttempts.values()) {
+            if (nextAttempt - wakeUp < 0) wakeUp = nextAttempt;
+        }
+        return wakeUp;
+    }
+
+    private static void closeChannels(Selector selector) throws IOException {
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+    }
+}
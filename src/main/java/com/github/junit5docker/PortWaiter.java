@@ -0,0 +1,44 @@
+package com.github.junit5docker;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class PortWaiter {
+
+    static final String DOCKER_HOST = "localhost";
+
+    private final DockerClientAdapter dockerClient;
+
+    PortWaiter(DockerClientAdapter dockerClient) {
+        this.dockerClient = dockerClient;
+    }
+
+    void waitForPortsAccordingTo(String startedContainer, Docker dockerAnnotation) {
+        WaitForPorts waitForPorts = dockerAnnotation.waitForPorts();
+        if (!waitForPorts.value()) return;
+        List<InetSocketAddress> ports = hostPorts(startedContainer, dockerAnnotation.ports());
+        try {
+            if (!new PortProbe(ports).awaitAccepting(waitForPorts.timeoutInMillis())) {
+                throw new AssertionError("Timeout while waiting for ports : " + ports);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<InetSocketAddress> hostPorts(String startedContainer, Port... declaredPorts) {
+        Map<Integer, Integer> mappedPorts = dockerClient.mappedPorts(startedContainer);
+        List<InetSocketAddress> hostPorts = new ArrayList<>();
+        for (Port port : declaredPorts) {
+            Integer mappedPort = mappedPorts.get(port.inner());
+            if (mappedPort == null) {
+                throw new AssertionError(String.format("Port %d is not mapped by container %s", port.inner(),
+                    startedContainer));
+            }
+            hostPorts.add(new InetSocketAddress(DOCKER_HOST, mappedPort));
+        }
+        return hostPorts;
+    }
+}
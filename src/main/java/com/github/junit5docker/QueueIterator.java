@@ -1,54 +1,117 @@
 package com.github.junit5docker;
 
+import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.lang.Thread.currentThread;
-import static java.util.Optional.empty;
-import static java.util.Optional.ofNullable;
 
-class QueueIterator implements Iterator<String>, AutoCloseable {
+class QueueIterator<T> implements Iterator<T>, AutoCloseable {
 
-    private static final int POLL_TIMEOUT = 10;
+    private final Lock lock = new ReentrantLock();
 
-    private final AtomicBoolean opened;
+    private final Condition lineOrEndPushed = lock.newCondition();
 
-    private final BlockingQueue<String> lines;
+    private final Condition linesTaken = lock.newCondition();
 
-    private Optional<String> lineRead = empty();
+    private final RingBuffer<T> pushedLines;
 
-    QueueIterator(BlockingQueue<String> lines) {
-        this.opened = new AtomicBoolean(true);
-        this.lines = lines;
+    private final LogOverflow overflow;
+
+    private final Queue<T> linesRead = new ArrayDeque<>();
+
+    private boolean opened = true;
+
+    private boolean ended;
+
+    QueueIterator(int capacity, LogOverflow overflow) {
+        this.pushedLines = new RingBuffer<>(capacity);
+        this.overflow = overflow;
+    }
+
+    void push(T item) throws InterruptedException {
+        lock.lock();
+        try {
+            while (opened && mustWaitForRoom()) {
+                linesTaken.await();
+            }
+            if (opened) addOrDrop(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean mustWaitForRoom() {
+        return overflow == LogOverflow.BLOCK && pushedLines.isFull();
+    }
+
+    private void addOrDrop(T item) {
+        if (pushedLines.isFull()) {
+            if (overflow == LogOverflow.DROP_NEWEST) return;
+            pushedLines.dropOldest();
+        }
+        pushedLines.add(item);
+        lineOrEndPushed.signal();
+    }
+
+    void end() {
+        lock.lock();
+        try {
+            ended = true;
+            lineOrEndPushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public boolean hasNext() {
-        while (opened.get() && !lineRead.isPresent()) {
-            try {
-                lineRead = ofNullable(lines.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS));
-            } catch (InterruptedException e) {
-                opened.set(false);
-                currentThread().interrupt();
+        if (!linesRead.isEmpty()) return true;
+        lock.lock();
+        try {
+            while (streaming() && pushedLines.isEmpty()) {
+                lineOrEndPushed.await();
             }
+            takePushedLines();
+        } catch (InterruptedException e) {
+            opened = false;
+            currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+        return !linesRead.isEmpty();
+    }
+
+    private boolean streaming() {
+        return opened && !ended;
+    }
+
+    private void takePushedLines() {
+        if (opened) {
+            pushedLines.drainTo(linesRead);
+            linesTaken.signalAll();
         }
-        return lineRead.isPresent();
     }
 
     @Override
-    public String next() {
-        if (!lineRead.isPresent()) throw new NoSuchElementException("Line read is null");
-        String result = lineRead.get();
-        lineRead = empty();
-        return result;
+    public T next() {
+        if (linesRead.isEmpty()) throw new NoSuchElementException("Line read is null");
+        return linesRead.remove();
     }
 
     @Override
     public void close() {
-        opened.set(false);
+        lock.lock();
+        try {
+            opened = false;
+            lineOrEndPushed.signalAll();
+            linesTaken.signalAll();
+        } finally {
+            lock.unlock();
+        }
     }
 }
@@ -0,0 +1,56 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.HealthState;
+import com.github.dockerjava.api.command.InspectContainerResponse.ContainerState;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+final class ReadinessCommands {
+
+    static final int NO_EXIT_CODE = -1;
+
+    private ReadinessCommands() {
+    }
+
+    static String status(DockerClient client, String containerId) {
+        ContainerState state = client.inspectContainerCmd(containerId).exec().getState();
+        if (!Boolean.TRUE.equals(state.getRunning())) return state.getStatus();
+        HealthState health = state.getHealth();
+        return health == null ? HealthWaiter.NO_HEALTHCHECK : health.getStatus();
+    }
+
+    static Closeable followEvents(DockerClient client, String containerId, Consumer<String> eventListener) {
+        ContainerEvents events = client.eventsCmd().withContainerFilter(containerId)
+            .exec(new ContainerEvents(eventListener));
+        try {
+            events.awaitStarted();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return events;
+    }
+
+    static String createExec(DockerClient client, String containerId, String... command) {
+        return client.execCreateCmd(containerId).withCmd(command)
+            .withAttachStdout(true)
+            .withAttachStderr(true)
+            .exec().getId();
+    }
+
+    static int runExec(DockerClient client, String execId, long timeoutInMillis, Consumer<String> outputListener) {
+        try (ExecOutput runningCommand = client.execStartCmd(execId)
+            .exec(new ExecOutput(outputListener, timeoutInMillis))) {
+            if (!runningCommand.awaitExit()) return NO_EXIT_CODE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return NO_EXIT_CODE;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        Integer exitCode = client.inspectExecCmd(execId).exec().getExitCode();
+        return exitCode == null ? NO_EXIT_CODE : exitCode;
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.junit5docker;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+final class ReadinessCondition {
+
+    private static final int MIN_OCCURRENCES = 1;
+
+    private final WaitFor.Match match;
+
+    private final int occurrences;
+
+    private final boolean regex;
+
+    private final List<String> patterns = new ArrayList<>();
+
+    private final int[] steps;
+
+    private final LiteralAutomaton literals;
+
+    private final List<Pattern> regexes;
+
+    ReadinessCondition(WaitFor waitFor, Charset charset) {
+        if (waitFor.occurrences() < MIN_OCCURRENCES) {
+            throw new IllegalArgumentException("Occurrences must be positive but was " + waitFor.occurrences());
+        }
+        this.match = waitFor.match();
+        this.occurrences = waitFor.occurrences();
+        this.regex = waitFor.regex();
+        this.steps = stepsOf(Stream.concat(Stream.of(waitFor.value()), Stream.of(waitFor.additionalValues())));
+        this.literals = new LiteralAutomaton(regex ? emptyList() : encodedPatterns(charset));
+        this.regexes = unmodifiableList(regex ? compiledPatterns() : emptyList());
+    }
+
+    static ReadinessCondition compile(WaitFor waitFor) {
+        return new ReadinessCondition(waitFor, StreamLog.logCharset());
+    }
+
+    boolean waitsForNothing() {
+        return steps.length == 0;
+    }
+
+    boolean searchesLines() {
+        return regex;
+    }
+
+    ReadinessProgress newProgress(int rounds) {
+        return new ReadinessProgress(this, rounds);
+    }
+
+    String describe() {
+        String quotedPatterns = patternsOfSteps().stream().map(pattern -> "\"" + pattern + "\"").collect(joining(", "));
+        String description = steps.length == 1 ? quotedPatterns : matchDescription() + quotedPatterns;
+        return occurrences == 1 ? description : description + " " + occurrences + " times";
+    }
+
+    WaitFor.Match getMatch() {
+        return match;
+    }
+
+    int getOccurrences() {
+        return occurrences;
+    }
+
+    int getStepCount() {
+        return steps.length;
+    }
+
+    int getStepPattern(int step) {
+        return steps[step];
+    }
+
+    LiteralAutomaton getLiterals() {
+        return literals;
+    }
+
+    List<Pattern> getRegexes() {
+        return regexes;
+    }
+
+    private int[] stepsOf(Stream<String> values) {
+        return values.filter(value -> !value.isEmpty())
+            .mapToInt(value -> {
+                if (!patterns.contains(value)) patterns.add(value);
+                return patterns.indexOf(value);
+            })
+            .toArray();
+    }
+
+    private List<byte[]> encodedPatterns(Charset charset) {
+        return patterns.stream().map(pattern -> pattern.getBytes(charset)).collect(toList());
+    }
+
+    private List<Pattern> compiledPatterns() {
+        return patterns.stream().map(Pattern::compile).collect(toList());
+    }
+
+    private List<String> patternsOfSteps() {
+        List<String> patternsOfSteps = new ArrayList<>();
+        for (int step : steps) {
+            patternsOfSteps.add(patterns.get(step));
+        }
+        return patternsOfSteps;
+    }
+
+    private String matchDescription() {
+        switch (match) {
+            case ANY:
+                return "any of ";
+            case IN_ORDER:
+                return "in order ";
+            default:
+                return "all of ";
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.junit5docker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ReadinessConditions {
+
+    private final Map<WaitFor, ReadinessCondition> compiledConditions = new ConcurrentHashMap<>();
+
+    ReadinessCondition compile(WaitFor waitFor) {
+        return compiledConditions.computeIfAbsent(waitFor, ReadinessCondition::compile);
+    }
+}
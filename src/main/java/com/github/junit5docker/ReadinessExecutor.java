@@ -0,0 +1,64 @@
+package com.github.junit5docker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.github.junit5docker.SessionResources.session;
+
+final class ReadinessExecutor {
+
+    static final String THREADS_PROPERTY = "junit5docker.readiness.threads";
+
+    static final String THREAD_NAME = "junit5-docker-readiness";
+
+    static final String VIRTUAL_THREAD_FACTORY = "newVirtualThreadPerTaskExecutor";
+
+    private static final int MIN_THREADS = 2;
+
+    private static final Logger LOGGER = Logger.getLogger(ReadinessExecutor.class.getName());
+
+    private ReadinessExecutor() {
+    }
+
+    static ExecutorService shared() {
+        return SharedExecutor.JVM_EXECUTOR;
+    }
+
+    static ExecutorService create() {
+        return virtualThreadExecutor().orElseGet(() -> platformThreadExecutor(
+            Integer.getInteger(THREADS_PROPERTY, Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors()))));
+    }
+
+    static ExecutorService platformThreadExecutor(int threads) {
+        return Executors.newFixedThreadPool(threads, new DaemonThreadFactory(THREAD_NAME));
+    }
+
+    static Optional<ExecutorService> virtualThreadExecutor() {
+        return executorFrom(VIRTUAL_THREAD_FACTORY);
+    }
+
+    // only one of the branches can run on a given JDK, so the factory is a parameter to test both of them anywhere
+    static Optional<ExecutorService> executorFrom(String executorsFactory) {
+        try {
+            Object executor = Executors.class.getMethod(executorsFactory).invoke(null);
+            return Optional.of((ExecutorService) executor);
+        } catch (ReflectiveOperationException e) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Virtual threads are not available, using a pool for readiness checks", e);
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static final class SharedExecutor {
+
+        private static final ExecutorService JVM_EXECUTOR = create();
+
+        static {
+            session().onClose(JVM_EXECUTOR::shutdownNow);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.junit5docker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class ReadinessProgress {
+
+    private final ReadinessCondition condition;
+
+    private final LiteralAutomaton literals;
+
+    private final Matcher[] matchers;
+
+    private final int[] stepOccurrences;
+
+    private int state = LiteralAutomaton.INITIAL_STATE;
+
+    private int nextStep;
+
+    private int remainingRounds;
+
+    ReadinessProgress(ReadinessCondition condition, int rounds) {
+        this.condition = condition;
+        this.literals = condition.getLiterals();
+        List<Pattern> regexes = condition.getRegexes();
+        this.matchers = new Matcher[regexes.size()];
+        for (int i = 0; i < matchers.length; i++) {
+            matchers[i] = regexes.get(i).matcher("");
+        }
+        this.stepOccurrences = new int[condition.getStepCount()];
+        this.remainingRounds = rounds;
+    }
+
+    boolean foundIn(byte[] payload) {
+        for (int i = 0; i < payload.length && remainingRounds > 0; i++) {
+            state = literals.next(state, payload[i]);
+            for (int match = 0; match < literals.matchCount(state); match++) {
+                occurred(literals.matchAt(state, match));
+            }
+        }
+        return isFound();
+    }
+
+    boolean foundIn(String line) {
+        for (int pattern = 0; pattern < matchers.length; pattern++) {
+            Matcher matcher = matchers[pattern].reset(line);
+            while (matcher.find()) {
+                occurred(pattern);
+            }
+        }
+        return isFound();
+    }
+
+    private boolean isFound() {
+        return remainingRounds <= 0;
+    }
+
+    private void occurred(int pattern) {
+        if (isFound()) return;
+        boolean satisfied = condition.getMatch() == WaitFor.Match.IN_ORDER ? advance(pattern) : count(pattern);
+        if (satisfied) {
+            remainingRounds--;
+            nextStep = 0;
+            Arrays.fill(stepOccurrences, 0);
+        }
+    }
+
+    private boolean advance(int pattern) {
+        if (condition.getStepPattern(nextStep) == pattern) {
+            stepOccurrences[nextStep]++;
+            if (stepOccurrences[nextStep] == condition.getOccurrences()) nextStep++;
+        }
+        return nextStep == stepOccurrences.length;
+    }
+
+    private boolean count(int pattern) {
+        int foundSteps = 0;
+        for (int step = 0; step < stepOccurrences.length; step++) {
+            if (condition.getStepPattern(step) == pattern) stepOccurrences[step]++;
+            if (stepOccurrences[step] >= condition.getOccurrences()) foundSteps++;
+        }
+        return condition.getMatch() == WaitFor.Match.ANY ? foundSteps > 0 : foundSteps == stepOccurrences.length;
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.junit5docker;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+class RecycledContainers {
+
+    private final Queue<RestartedContainer> restartedContainers = new ConcurrentLinkedQueue<>();
+
+    void recycle(String containerId, int restarts) {
+        restartedContainers.add(new RestartedContainer(containerId, restarts));
+    }
+
+    RestartedContainer reuse() {
+        return restartedContainers.poll();
+    }
+
+    void removeAll(Consumer<String> containerRemoval) {
+        RestartedContainer restartedContainer = restartedContainers.poll();
+        while (restartedContainer != null) {
+            containerRemoval.accept(restartedContainer.getContainerId());
+            restartedContainer = restartedContainers.poll();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.junit5docker;
+
+final class RestartedContainer {
+
+    private final String containerId;
+
+    private final int restarts;
+
+    RestartedContainer(String containerId, int restarts) {
+        this.containerId = containerId;
+        this.restarts = restarts;
+    }
+
+    String getContainerId() {
+        return containerId;
+    }
+
+    int getRestarts() {
+        return restarts;
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.junit5docker;
+
+import java.util.Collection;
+
+final class RingBuffer<T> {
+
+    private static final int MIN_CAPACITY = 1;
+
+    private final Object[] items;
+
+    private int first;
+
+    private int size;
+
+    RingBuffer(int capacity) {
+        if (capacity < MIN_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be positive but was " + capacity);
+        }
+        this.items = new Object[capacity];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean isFull() {
+        return size == items.length;
+    }
+
+    void add(T item) {
+        if (isFull()) throw new IllegalStateException("Buffer is full");
+        items[(first + size) % items.length] = item;
+        size++;
+    }
+
+    void dropOldest() {
+        if (isEmpty()) return;
+        items[first] = null;
+        first = (first + 1) % items.length;
+        size--;
+    }
+
+    @SuppressWarnings("unchecked")
+    void drainTo(Collection<? super T> batch) {
+        while (!isEmpty()) {
+            batch.add((T) items[first]);
+            dropOldest();
+        }
+    }
+}
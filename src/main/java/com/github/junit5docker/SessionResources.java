@@ -0,0 +1,47 @@
+package com.github.junit5docker;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+final class SessionResources {
+
+    private static final SessionResources JVM_SESSION = new SessionResources(Runtime.getRuntime()::addShutdownHook);
+
+    private final Deque<Runnable> closingActions = new ArrayDeque<>();
+
+    private final Object lock = new Object();
+
+    private final Consumer<Thread> shutdownHooks;
+
+    private boolean hookRegistered;
+
+    SessionResources(Consumer<Thread> shutdownHooks) {
+        this.shutdownHooks = shutdownHooks;
+    }
+
+    static SessionResources session() {
+        return JVM_SESSION;
+    }
+
+    void onClose(Runnable closingAction) {
+        synchronized (lock) {
+            if (!hookRegistered) {
+                shutdownHooks.accept(new Thread(this::close, "junit5-docker-session-end"));
+                hookRegistered = true;
+            }
+            closingActions.push(closingAction);
+        }
+    }
+
+    void close() {
+        synchronized (lock) {
+            if (closingActions.isEmpty()) return;
+            try {
+                closingActions.pop().run();
+            } finally {
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.junit5docker;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+class StandbyContainers {
+
+    private final Queue<CompletableFuture<String>> reserve = new ConcurrentLinkedQueue<>();
+
+    private final Supplier<String> readyContainerStarter;
+
+    private final Consumer<String> containerStopper;
+
+    private final ExecutorService executor;
+
+    StandbyContainers(int size, Supplier<String> readyContainerStarter, Consumer<String> containerStopper) {
+        this.readyContainerStarter = readyContainerStarter;
+        this.containerStopper = containerStopper;
+        this.executor = Executors.newFixedThreadPool(size, new DaemonThreadFactory("junit5-docker-standby"));
+        for (int i = 0; i < size; i++) {
+            warmUpContainer();
+        }
+    }
+
+    String take() {
+        // refilled first so that concurrent takes never find the reserve empty
+        warmUpContainer();
+        CompletableFuture<String> nextContainer = reserve.poll();
+        return Futures.join(nextContainer);
+    }
+
+    void close() {
+        executor.shutdown();
+        CompletableFuture<String> standbyContainer = reserve.poll();
+        while (standbyContainer != null) {
+            String containerId = standbyContainer.handle((started, error) -> started).join();
+            if (containerId != null) containerStopper.accept(containerId);
+            standbyContainer = reserve.poll();
+        }
+    }
+
+    private void warmUpContainer() {
+        reserve.add(supplyAsync(readyContainerStarter, executor));
+    }
+}
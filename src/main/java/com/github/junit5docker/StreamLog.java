@@ -1,55 +1,54 @@
 package com.github.junit5docker;
 
 import com.github.dockerjava.api.model.Frame;
-import com.github.dockerjava.core.command.LogContainerResultCallback;
 
-import java.io.IOException;
 import java.nio.charset.Charset;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.lang.Thread.currentThread;
-import static java.util.Spliterators.spliteratorUnknownSize;
 
-class StreamLog extends LogContainerResultCallback {
+class StreamLog extends AbstractBufferedLog<String> {
 
-    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    static final String CHARSET_PROPERTY = "junit5docker.logs.charset";
 
-    private final BlockingQueue<String> lines = new ArrayBlockingQueue<>(1);
+    static final String DEFAULT_CHARSET = "UTF-8";
 
-    private final QueueIterator queueIterator = new QueueIterator(lines);
+    private final LineDecoder lineDecoder;
+
+    StreamLog() {
+        super();
+        this.lineDecoder = new LineDecoder(logCharset());
+    }
+
+    StreamLog(int bufferCapacity, LogOverflow overflow, Charset charset) {
+        super(bufferCapacity, overflow);
+        this.lineDecoder = new LineDecoder(charset);
+    }
+
+    static Charset logCharset() {
+        return Charset.forName(System.getProperty(CHARSET_PROPERTY, DEFAULT_CHARSET));
+    }
 
     @Override
     public void onNext(Frame item) {
         try {
-            lines.put(new String(item.getPayload(), UTF_8));
+            synchronized (lineDecoder) {
+                lineDecoder.decode(item.getPayload(), this::push);
+            }
         } catch (InterruptedException e) {
             currentThread().interrupt();
         }
     }
 
     @Override
-    public void onComplete() {
-        super.onComplete();
-        queueIterator.close();
-    }
-
-    @Override
-    public void onError(Throwable throwable) {
-        super.onError(throwable);
-        queueIterator.close();
-    }
-
-    public Stream<String> stream() {
-        return StreamSupport.stream(spliteratorUnknownSize(queueIterator, 0), false)
-            .onClose(() -> {
-                try {
-                    this.close();
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            });
+    void endOfLogs() {
+        try {
+            synchronized (lineDecoder) {
+                lineDecoder.finish(this::push);
+            }
+        } catch (InterruptedException e) {
+            currentThread().interrupt();
+        } finally {
+            super.endOfLogs();
+        }
     }
 }
@@ -0,0 +1,66 @@
+package com.github.junit5docker;
+
+/**
+ * <p>Describes how JUnit-docker gets rid of a container once the tests do not need it anymore.</p>
+ *
+ * @since 1.1
+ */
+public @interface Teardown {
+
+    /**
+     * <p>Special value.
+     * If used, JUnit-docker lets docker choose how long to wait for the container to stop.</p>
+     * <p>This is the default value of {@link #stopTimeoutInSeconds()}</p>
+     */
+    static final int DOCKER_DEFAULT_TIMEOUT = -1;
+
+    /**
+     * @return the way to get rid of the container.
+     * @see Strategy
+     */
+    Strategy strategy() default Strategy.STOP;
+
+    /**
+     * <p>Only used by the {@link Strategy#STOP} and {@link Strategy#RESTART} strategies.</p>
+     *
+     * @return the time in seconds to wait for the container to stop before killing it.
+     */
+    int stopTimeoutInSeconds() default DOCKER_DEFAULT_TIMEOUT;
+
+    /**
+     * <p>A container removed in background is handed to a reaper which stops and removes it while the next tests are
+     * running. All the containers are removed before the end of the test session.</p>
+     *
+     * <p>Not used by the {@link Strategy#RESTART} strategy since the next test waits for the restarted container.</p>
+     *
+     * @return true if the container should be stopped and removed without waiting for it.
+     */
+    boolean inBackground() default false;
+
+    /**
+     * The ways to get rid of a container.
+     */
+    enum Strategy {
+
+        /**
+         * The container is stopped, giving it a chance to exit gracefully, then removed.
+         */
+        STOP,
+
+        /**
+         * The container is killed and removed at once. This is the fastest way for containers without any state to
+         * save.
+         */
+        KILL,
+
+        /**
+         * <p>Only used when {@link Docker#newForEachCase()} is true.</p>
+         *
+         * <p>The container is restarted and given to the next test instead of being replaced by a new container. The
+         * container's file system is kept so this is only suited for images without any state on disk.</p>
+         *
+         * <p>The next test waits for the {@link WaitFor} log to appear once more before using the container.</p>
+         */
+        RESTART
+    }
+}
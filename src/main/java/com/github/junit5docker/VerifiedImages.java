@@ -0,0 +1,51 @@
+package com.github.junit5docker;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+final class VerifiedImages {
+
+    private static final VerifiedImages JVM_IMAGES = new VerifiedImages();
+
+    private final Map<String, CompletableFuture<Void>> verifications = new ConcurrentHashMap<>();
+
+    static VerifiedImages verifiedImages() {
+        return JVM_IMAGES;
+    }
+
+    static String withVersion(String wantedImage) {
+        if (wantedImage.contains(":")) return wantedImage;
+        return wantedImage + ":latest";
+    }
+
+    void verify(String image, Consumer<String> imageVerification) {
+        CompletableFuture<Void> ownVerification = new CompletableFuture<>();
+        CompletableFuture<Void> runningVerification = verifications.putIfAbsent(image, ownVerification);
+        if (runningVerification == null) {
+            verifyNow(image, imageVerification, ownVerification);
+        } else if (!runningVerification.handle((verified, error) -> error == null).join()) {
+            verify(image, imageVerification);
+        }
+    }
+
+    void forget(String image) {
+        verifications.remove(image);
+    }
+
+    private void verifyNow(String image, Consumer<String> imageVerification, CompletableFuture<Void> verification) {
+        boolean verified = false;
+        try {
+            imageVerification.accept(image);
+            verified = true;
+        } finally {
+            if (verified) {
+                verification.complete(null);
+            } else {
+                verifications.remove(image, verification);
+                verification.completeExceptionally(new IllegalStateException("Could not verify image " + image));
+            }
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.github.junit5docker;
 /**
  * <p>Asks JUnit-docker to wait for something to appear in the container's log before running any test.</p>
  *
+ * <p>More patterns can be given with {@link #additionalValues()}. By default the container is ready once all of them
+ * appeared in the logs, see {@link #match()} for the other ways to combine them.</p>
+ *
  * @since 1.0
  */
 public @interface WaitFor {
@@ -24,8 +27,61 @@ public @interface WaitFor {
      */
     String value();
 
+    /**
+     * @return the log texts to wait for besides {@link #value()}, after it when {@link #match()} is
+     * {@link Match#IN_ORDER}. Empty texts are ignored.
+     * @since 1.1
+     */
+    String[] additionalValues() default {};
+
     /**
      * @return the time in milliseconds to wait for the log before giving up.
      */
     int timeoutInMillis() default DEFAULT_TIMEOUT;
+
+    /**
+     * @return the way to combine {@link #value()} and {@link #additionalValues()}.
+     * @since 1.1
+     */
+    Match match() default Match.ALL;
+
+    /**
+     * <p>Regular expressions are searched in every decoded log line while plain texts are searched directly in the
+     * raw logs.</p>
+     *
+     * @return true if {@link #value()} and {@link #additionalValues()} are regular expressions, false if they are
+     * plain texts.
+     * @since 1.1
+     */
+    boolean regex() default false;
+
+    /**
+     * @return the number of times each pattern must appear to be considered found.
+     * @since 1.1
+     */
+    int occurrences() default 1;
+
+    /**
+     * The ways to combine several patterns.
+     *
+     * @since 1.1
+     */
+    enum Match {
+
+        /**
+         * The container is ready once every pattern has been found.
+         */
+        ALL,
+
+        /**
+         * The container is ready as soon as one of the patterns has been found.
+         */
+        ANY,
+
+        /**
+         * The container is ready once every pattern has been found, each one after the previous one. A pattern can
+         * be repeated to wait for it several times in the sequence.
+         */
+        IN_ORDER
+    }
 }
@@ -0,0 +1,30 @@
+package com.github.junit5docker;
+
+/**
+ * <p>Asks JUnit-docker to wait for a command run inside the container to succeed before running any test.</p>
+ *
+ * <p>The command is executed in the container, as with {@code docker exec}, and retried with a growing delay until it
+ * exits with code 0. This is suited for images shipping their own readiness tool, such as {@code pg_isready},
+ * {@code mysqladmin ping} or {@code redis-cli ping}. When used with the other waits, the command is run once they are
+ * satisfied.</p>
+ *
+ * @since 1.1
+ */
+public @interface WaitForExec {
+
+    /**
+     * The default timeout duration.
+     */
+    static final int DEFAULT_TIMEOUT = 10 * 1000;
+
+    /**
+     * @return the command to run and its arguments. Nothing is run if empty, which is the default value in
+     * {@link Docker}.
+     */
+    String[] value();
+
+    /**
+     * @return the time in milliseconds to wait for the command to succeed before giving up.
+     */
+    int timeoutInMillis() default DEFAULT_TIMEOUT;
+}
@@ -0,0 +1,29 @@
+package com.github.junit5docker;
+
+/**
+ * <p>Asks JUnit-docker to wait for the container to be reported healthy by its {@code HEALTHCHECK} before running any
+ * test.</p>
+ *
+ * <p>The health is followed through the docker events so the tests start as soon as docker reports the container
+ * healthy. The wait fails as soon as the container is reported unhealthy or dies. The image must declare a
+ * {@code HEALTHCHECK}. When used with the other waits, the health is awaited once they are satisfied.</p>
+ *
+ * @since 1.1
+ */
+public @interface WaitForHealth {
+
+    /**
+     * The default timeout duration.
+     */
+    static final int DEFAULT_TIMEOUT = 10 * 1000;
+
+    /**
+     * @return true if the health should be awaited. This is false in the default value of {@link Docker}.
+     */
+    boolean value() default true;
+
+    /**
+     * @return the time in milliseconds to wait for the container to be healthy before giving up.
+     */
+    int timeoutInMillis() default DEFAULT_TIMEOUT;
+}
@@ -0,0 +1,68 @@
+package com.github.junit5docker;
+
+/**
+ * <p>Asks JUnit-docker to wait for an HTTP endpoint of the container to answer before running any test.</p>
+ *
+ * <p>GET requests are sent to the path on the host side of the port until the answer has one of the expected status
+ * codes and a body matching {@link #bodyPattern()}. Attempts are retried with a growing delay and reuse the same
+ * keep-alive connection while the server keeps it open. When used with {@link WaitFor} or {@link WaitForPorts}, the
+ * endpoint is requested once they are satisfied.</p>
+ *
+ * @since 1.1
+ */
+public @interface WaitForHttp {
+
+    /**
+     * <p>Special value.
+     * If used, JUnit-docker does not request anything.</p>
+     * <p>This is the default value in {@link Docker}</p>
+     */
+    static final String NOTHING = "";
+
+    /**
+     * <p>Special value.
+     * If used as {@link #port()}, the first port of {@link Docker#ports()} is requested.</p>
+     */
+    static final int FIRST_DECLARED_PORT = -1;
+
+    /**
+     * <p>Special value.
+     * If used as {@link #bodyPattern()}, any body is accepted.</p>
+     */
+    static final String ANY_BODY = "";
+
+    /**
+     * The default expected status code.
+     */
+    static final int HTTP_OK = 200;
+
+    /**
+     * The default timeout duration.
+     */
+    static final int DEFAULT_TIMEOUT = 10 * 1000;
+
+    /**
+     * @return the path to request, starting with a slash.
+     */
+    String value();
+
+    /**
+     * @return the port used by the application inside the container, as declared in {@link Port#inner()}.
+     */
+    int port() default FIRST_DECLARED_PORT;
+
+    /**
+     * @return the status codes meaning that the container is ready.
+     */
+    int[] statusCodes() default {HTTP_OK};
+
+    /**
+     * @return a regular expression to find in the body of the answer.
+     */
+    String bodyPattern() default ANY_BODY;
+
+    /**
+     * @return the time in milliseconds to wait for the expected answer before giving up.
+     */
+    int timeoutInMillis() default DEFAULT_TIMEOUT;
+}
@@ -0,0 +1,31 @@
+package com.github.junit5docker;
+
+/**
+ * <p>Asks JUnit-docker to wait for the container's ports to accept connections before running any test.</p>
+ *
+ * <p>Every port declared in {@link Docker#ports()} is probed on its host side with non-blocking connections, retried
+ * with a growing delay until it accepts a connection. No log is read, so this is suited for images which do not log
+ * anything reliable. When used with {@link WaitFor}, the ports are probed once the logs were found.</p>
+ *
+ * <p>Be aware that docker may relay the ports through a proxy which accepts connections slightly before the
+ * application inside the container listens.</p>
+ *
+ * @since 1.1
+ */
+public @interface WaitForPorts {
+
+    /**
+     * The default timeout duration.
+     */
+    static final int DEFAULT_TIMEOUT = 10 * 1000;
+
+    /**
+     * @return true if the ports should be probed. This is false in the default value of {@link Docker}.
+     */
+    boolean value() default true;
+
+    /**
+     * @return the time in milliseconds to wait for every port to accept connections before giving up.
+     */
+    int timeoutInMillis() default DEFAULT_TIMEOUT;
+}
@@ -0,0 +1,81 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.DockerClient;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BackgroundDockerClientTest {
+
+    private final DockerClient dockerClient = mock(DockerClient.class, RETURNS_DEEP_STUBS);
+
+    @Test
+    void notWaitForTheClientToBeBuilt() {
+        CountDownLatch buildAllowed = new CountDownLatch(1);
+        assertTimeoutPreemptively(ofMillis(500), () -> new BackgroundDockerClient(() -> {
+            awaitQuietly(buildAllowed);
+            return dockerClient;
+        }), "the client should be built in background");
+        buildAllowed.countDown();
+    }
+
+    @Test
+    void pingTheDaemonOnceBuilt() {
+        new BackgroundDockerClient(() -> dockerClient);
+        verify(dockerClient.pingCmd(), timeout(500)).exec();
+    }
+
+    @Test
+    void waitForTheClientToBeBuiltBeforeGivingIt() {
+        CountDownLatch buildAllowed = new CountDownLatch(1);
+        BackgroundDockerClient backgroundClient = new BackgroundDockerClient(() -> {
+            awaitQuietly(buildAllowed);
+            return dockerClient;
+        });
+        buildAllowed.countDown();
+        assertThat(backgroundClient.get()).isSameAs(dockerClient);
+    }
+
+    @Test
+    void giveTheClientEvenIfThePingFailed() {
+        when(dockerClient.pingCmd().exec()).thenThrow(new IllegalStateException("daemon not ready"));
+        assertThat(new BackgroundDockerClient(() -> dockerClient).get()).isSameAs(dockerClient);
+    }
+
+    @Test
+    void reportClientBuildFailureWhenAskedForTheClient() {
+        BackgroundDockerClient backgroundClient = new BackgroundDockerClient(() -> {
+            throw new IllegalStateException("No docker host");
+        });
+        assertThatThrownBy(backgroundClient::get)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("No docker host");
+    }
+
+    @Test
+    void closeTheBuiltClient() throws IOException {
+        BackgroundDockerClient backgroundClient = new BackgroundDockerClient(() -> dockerClient);
+        backgroundClient.close();
+        verify(dockerClient).close();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(500, MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
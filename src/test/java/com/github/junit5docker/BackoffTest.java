@@ -0,0 +1,32 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackoffTest {
+
+    @Test
+    void doubleDelayUntilMaximum() {
+        Backoff backoff = new Backoff(10, 50, () -> 0);
+        assertThat(backoff.nextDelayInMillis()).isEqualTo(10);
+        assertThat(backoff.nextDelayInMillis()).isEqualTo(20);
+        assertThat(backoff.nextDelayInMillis()).isEqualTo(40);
+        assertThat(backoff.nextDelayInMillis()).isEqualTo(50);
+        assertThat(backoff.nextDelayInMillis()).isEqualTo(50);
+    }
+
+    @Test
+    void shortenDelayByAtMostHalfWithJitter() {
+        Backoff backoff = new Backoff(10, 50, () -> 1);
+        assertThat(backoff.nextDelayInMillis()).isEqualTo(5);
+        assertThat(backoff.nextDelayInMillis()).isEqualTo(10);
+    }
+
+    @Test
+    void keepRandomDelaysBetweenHalfAndFullDelay() {
+        Backoff backoff = new Backoff();
+        assertThat(backoff.nextDelayInMillis())
+            .isBetween(Backoff.INITIAL_DELAY_IN_MILLIS / 2, Backoff.INITIAL_DELAY_IN_MILLIS);
+    }
+}
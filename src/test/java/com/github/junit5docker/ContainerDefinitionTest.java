@@ -0,0 +1,54 @@
+package com.github.junit5docker;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ContainerDefinitionTest {
+
+    @Test
+    void shouldValidateEqualsContract() {
+        EqualsVerifier.forClass(ContainerDefinition.class).suppress(Warning.NULL_FIELDS).verify();
+    }
+
+    @Test
+    void shouldBeReadFromTheAnnotation() {
+        ContainerDefinition definition = ContainerDefinition.from(DefinedContainer.class.getAnnotation(Docker.class));
+        assertThat(definition).isEqualTo(new ContainerDefinition("wantedImage", singletonMap("toTest", "myValue"),
+            new PortBinding(8801, 8800), new PortBinding(9901, 9900)));
+    }
+
+    @Test
+    void shouldNotDependOnTheWaitedLog() {
+        ContainerDefinition definition = ContainerDefinition.from(DefinedContainer.class.getAnnotation(Docker.class));
+        ContainerDefinition sameDefinition = ContainerDefinition.from(
+            SameContainerWithWaitedLog.class.getAnnotation(Docker.class));
+        assertThat(definition).isEqualTo(sameDefinition);
+    }
+
+    @Test
+    void shouldStartTheDefinedContainer() {
+        DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+        new ContainerDefinition("wantedImage", emptyMap(), new PortBinding(8801, 8800)).startWith(dockerClient);
+        verify(dockerClient).startContainer(eq("wantedImage"), eq(emptyMap()), eq(new PortBinding(8801, 8800)));
+    }
+
+    @Docker(image = "wantedImage", ports = {@Port(exposed = 8801, inner = 8800), @Port(exposed = 9901, inner = 9900)},
+        environments = @Environment(key = "toTest", value = "myValue"))
+    private static class DefinedContainer {
+
+    }
+
+    @Docker(image = "wantedImage", ports = {@Port(exposed = 8801, inner = 8800), @Port(exposed = 9901, inner = 9900)},
+        environments = @Environment(key = "toTest", value = "myValue"), waitFor = @WaitFor("started"))
+    private static class SameContainerWithWaitedLog {
+
+    }
+}
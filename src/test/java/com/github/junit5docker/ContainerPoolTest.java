@@ -0,0 +1,135 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContainerPoolTest {
+
+    private static final ContainerDefinition DEFINITION =
+        new ContainerDefinition("wantedImage", emptyMap(), new PortBinding(8801, 8800));
+
+    private static final ContainerDefinition OTHER_DEFINITION =
+        new ContainerDefinition("wantedImage", singletonMap("toTest", "myValue"), new PortBinding(8802, 8800));
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final ContainerPool containerPool = new ContainerPool(dockerClient);
+
+    @Test
+    void shouldStartContainerOnFirstLoan() {
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any())).thenReturn("CONTAINER_ID");
+        assertThat(containerPool.lendContainer(DEFINITION)).isEqualTo("CONTAINER_ID");
+    }
+
+    @Test
+    void shouldLendTheSameContainerForTheSameDefinition() {
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any())).thenReturn("CONTAINER_ID");
+        containerPool.lendContainer(DEFINITION);
+        String lentContainer = containerPool.lendContainer(
+            new ContainerDefinition("wantedImage", emptyMap(), new PortBinding(8801, 8800)));
+        assertThat(lentContainer).isEqualTo("CONTAINER_ID");
+        verify(dockerClient, times(1)).startContainer(eq("wantedImage"), anyMap(), any());
+    }
+
+    @Test
+    void shouldStartAnotherContainerForAnotherDefinition() {
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any())).thenReturn("FIRST", "SECOND");
+        containerPool.lendContainer(DEFINITION);
+        assertThat(containerPool.lendContainer(OTHER_DEFINITION)).isEqualTo("SECOND");
+    }
+
+    @Test
+    void shouldNotStopContainersBeforeBeingClosed() {
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any())).thenReturn("CONTAINER_ID");
+        containerPool.lendContainer(DEFINITION);
+        verify(dockerClient, never()).stopAndRemoveContainer(any());
+    }
+
+    @Test
+    void shouldStopEveryContainerWhenClosed() {
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any())).thenReturn("FIRST", "SECOND");
+        containerPool.lendContainer(DEFINITION);
+        containerPool.lendContainer(OTHER_DEFINITION);
+        containerPool.close();
+        verify(dockerClient).stopAndRemoveContainer("FIRST");
+        verify(dockerClient).stopAndRemoveContainer("SECOND");
+    }
+
+    @Test
+    void shouldStopContainersOnlyOnce() {
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any())).thenReturn("CONTAINER_ID");
+        containerPool.lendContainer(DEFINITION);
+        containerPool.close();
+        containerPool.close();
+        verify(dockerClient, times(1)).stopAndRemoveContainer("CONTAINER_ID");
+    }
+
+    @Test
+    void shouldStartTheContainerOnceForConcurrentLoans() throws Exception {
+        CountDownLatch startAllowed = new CountDownLatch(1);
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any())).thenAnswer(invocation -> {
+            startAllowed.await();
+            return "CONTAINER_ID";
+        });
+        ExecutorService borrowers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> firstLoan = borrowers.submit(() -> containerPool.lendContainer(DEFINITION));
+            Future<String> secondLoan = borrowers.submit(() -> containerPool.lendContainer(DEFINITION));
+            startAllowed.countDown();
+            assertThat(firstLoan.get()).isEqualTo("CONTAINER_ID");
+            assertThat(secondLoan.get()).isEqualTo("CONTAINER_ID");
+            verify(dockerClient, times(1)).startContainer(eq("wantedImage"), anyMap(), any());
+        } finally {
+            borrowers.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldStartTheContainerAgainAfterAFailedStart() {
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any()))
+            .thenThrow(new IllegalStateException("cannot start"))
+            .thenReturn("CONTAINER_ID");
+        assertThatThrownBy(() -> containerPool.lendContainer(DEFINITION)).hasMessage("cannot start");
+        assertThat(containerPool.lendContainer(DEFINITION)).isEqualTo("CONTAINER_ID");
+    }
+
+    @Test
+    void shouldStopEveryContainerEvenIfOneCannotBeStopped() {
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any())).thenReturn("FIRST", "SECOND");
+        doThrow(new IllegalStateException("cannot stop")).when(dockerClient).stopAndRemoveContainer(any());
+        containerPool.lendContainer(DEFINITION);
+        containerPool.lendContainer(OTHER_DEFINITION);
+        assertThatThrownBy(containerPool::close).hasMessage("cannot stop");
+        verify(dockerClient).stopAndRemoveContainer("FIRST");
+        verify(dockerClient).stopAndRemoveContainer("SECOND");
+    }
+
+    @Test
+    void shouldBeClosedAtTheEndOfTheSession() {
+        List<Runnable> sessionEnd = new ArrayList<>();
+        when(dockerClient.startContainer(eq("wantedImage"), anyMap(), any())).thenReturn("CONTAINER_ID");
+        ContainerPool.openForSession(dockerClient, sessionEnd::add).lendContainer(DEFINITION);
+        sessionEnd.forEach(Runnable::run);
+        verify(dockerClient).stopAndRemoveContainer("CONTAINER_ID");
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static com.github.junit5docker.assertions.CountDownLatchAssertions.assertThat;
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ContainerReaperTest {
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final ContainerReaper containerReaper = new ContainerReaper(dockerClient, 2);
+
+    @AfterEach
+    void closeReaper() {
+        containerReaper.close();
+    }
+
+    @Test
+    void shouldNotWaitForTheContainerToBeRemoved() {
+        CountDownLatch removalAllowed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            removalAllowed.await();
+            return null;
+        }).when(dockerClient).stopAndRemoveContainer("CONTAINER_ID");
+        assertTimeoutPreemptively(ofMillis(500), () -> containerReaper.reap("CONTAINER_ID"),
+            "reap should return before the container is removed");
+        removalAllowed.countDown();
+    }
+
+    @Test
+    void shouldRemoveContainersInParallel() {
+        CountDownLatch bothRemovalsStarted = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            bothRemovalsStarted.countDown();
+            bothRemovalsStarted.await();
+            return null;
+        }).when(dockerClient).stopAndRemoveContainer(anyString());
+        containerReaper.reap("FIRST");
+        containerReaper.reap("SECOND");
+        assertThat(bothRemovalsStarted)
+            .overridingErrorMessage("Both containers should be removed at the same time")
+            .isDownBefore(500, MILLISECONDS);
+    }
+
+    @Test
+    void shouldRemoveEveryContainerBeforeBeingClosed() {
+        containerReaper.reap("FIRST");
+        containerReaper.reap("SECOND");
+        containerReaper.reap("THIRD");
+        containerReaper.close();
+        verify(dockerClient).stopAndRemoveContainer("FIRST");
+        verify(dockerClient).stopAndRemoveContainer("SECOND");
+        verify(dockerClient).stopAndRemoveContainer("THIRD");
+    }
+
+    @Test
+    void shouldKeepRemovingContainersWhenARemovalFails() {
+        doThrow(new IllegalStateException("No such container")).when(dockerClient).stopAndRemoveContainer("FIRST");
+        containerReaper.reap("FIRST");
+        containerReaper.reap("SECOND");
+        containerReaper.close();
+        verify(dockerClient).stopAndRemoveContainer("SECOND");
+    }
+
+    @Test
+    void shouldRemoveContainersTheGivenWay() {
+        containerReaper.reap("CONTAINER_ID", dockerClient::killAndRemoveContainer);
+        containerReaper.close();
+        verify(dockerClient).killAndRemoveContainer("CONTAINER_ID");
+    }
+
+    @Test
+    void shouldKeepInterruptionStateWhileClosing() {
+        Thread.currentThread().interrupt();
+        containerReaper.close();
+        assertThat(Thread.interrupted()).isTrue();
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+class ContainerTeardownTest {
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final ContainerReaper containerReaper = mock(ContainerReaper.class);
+
+    @Test
+    void stopContainerByDefault() {
+        teardownOf(DefaultTeardown.class).remove("CONTAINER_ID");
+        verify(dockerClient).stopAndRemoveContainer("CONTAINER_ID");
+    }
+
+    @Test
+    void stopContainerWithTheGivenTimeout() {
+        teardownOf(StopWithTimeout.class).remove("CONTAINER_ID");
+        verify(dockerClient).stopAndRemoveContainer("CONTAINER_ID", 3);
+    }
+
+    @Test
+    void killContainer() {
+        teardownOf(Kill.class).remove("CONTAINER_ID");
+        verify(dockerClient).killAndRemoveContainer("CONTAINER_ID");
+        verify(dockerClient, never()).stopAndRemoveContainer(anyString());
+    }
+
+    @Test
+    void restartContainerWithTheGivenTimeout() {
+        teardownOf(RestartWithTimeout.class).restart("CONTAINER_ID");
+        verify(dockerClient).restartContainer("CONTAINER_ID", 3);
+    }
+
+    @Test
+    void removeContainerThroughTheReaperInBackground() {
+        teardownOf(KillInBackground.class).remove("CONTAINER_ID");
+        verify(containerReaper).reap(eq("CONTAINER_ID"), any());
+        verifyZeroInteractions(dockerClient);
+    }
+
+    private ContainerTeardown teardownOf(Class<?> annotatedClass) {
+        Teardown teardown = annotatedClass.getAnnotation(Docker.class).teardown();
+        return new ContainerTeardown(dockerClient, teardown, () -> containerReaper);
+    }
+
+    @Docker(image = "wantedImage", ports = {})
+    private static class DefaultTeardown {
+
+    }
+
+    @Docker(image = "wantedImage", ports = {}, teardown = @Teardown(stopTimeoutInSeconds = 3))
+    private static class StopWithTimeout {
+
+    }
+
+    @Docker(image = "wantedImage", ports = {}, teardown = @Teardown(strategy = Teardown.Strategy.KILL))
+    private static class Kill {
+
+    }
+
+    @Docker(image = "wantedImage", ports = {},
+        teardown = @Teardown(strategy = Teardown.Strategy.RESTART, stopTimeoutInSeconds = 3))
+    private static class RestartWithTimeout {
+
+    }
+
+    @Docker(image = "wantedImage", ports = {},
+        teardown = @Teardown(strategy = Teardown.Strategy.KILL, inBackground = true))
+    private static class KillInBackground {
+
+    }
+}
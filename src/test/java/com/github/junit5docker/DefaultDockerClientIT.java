@@ -64,6 +64,12 @@ public class DefaultDockerClientIT {
             });
     }
 
+    @Test
+    @DisplayName("should be shared by the whole JVM")
+    public void shouldBeSharedByTheWholeJvm() {
+        assertThat(DefaultDockerClient.shared()).isSameAs(DefaultDockerClient.shared());
+    }
+
     private void ensureImageExists(String wantedImage) {
         try {
             dockerClient.inspectImageCmd(wantedImage).exec();
@@ -112,6 +118,16 @@ public class DefaultDockerClientIT {
                     .contains("8081");
             }
 
+            @Test
+            @DisplayName("start a container on any free port")
+            public void shouldStartContainerOnAnyFreePort() {
+                String containerId = defaultDockerClient.startContainer(WANTED_IMAGE, emptyMap(),
+                    new PortBinding(Port.ANY_FREE_PORT, 8080));
+                Map<Integer, Integer> mappedPorts = defaultDockerClient.mappedPorts(containerId);
+                assertThat(mappedPorts).containsOnlyKeys(8080);
+                assertThat(mappedPorts.get(8080)).isPositive();
+            }
+
             @Test
             @DisplayName("start a container with environment variables >:)")
             public void shouldStartContainerWithEnvironmentVariables() {
@@ -259,6 +275,19 @@ public class DefaultDockerClientIT {
                 assertThat(firstLine).isPresent()
                     .hasValueSatisfying("started"::equals);
             }
+
+            @Test
+            public void shouldGiveRawLogsInStream() {
+                containerId = dockerClient.createContainerCmd(WANTED_IMAGE).withEnv(singletonList("WAITING_TIME=1ms"))
+                    .exec()
+                    .getId();
+                dockerClient.startContainerCmd(containerId).exec();
+                ReadinessProgress progress = ReadinessCondition.compile(WaitForStarted.class.getAnnotation(Docker.class)
+                    .waitFor()).newProgress(1);
+                try (Stream<byte[]> logs = defaultDockerClient.rawLogs(containerId)) {
+                    assertThat(logs.anyMatch(progress::foundIn)).isTrue();
+                }
+            }
         }
 
         @Nested
@@ -302,4 +331,8 @@ public class DefaultDockerClientIT {
             }
         }
     }
+
+    @Docker(image = "faustxvi/open-port-later", ports = {}, waitFor = @WaitFor("started"))
+    private static class WaitForStarted {
+    }
 }
@@ -0,0 +1,169 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.command.PullImageResultCallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dockerjava.core.DefaultDockerClientConfig.createDefaultConfigBuilder;
+import static com.github.junit5docker.assertions.CountDownLatchAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Default docker client's readiness")
+public class DefaultDockerClientReadinessIT {
+
+    private static final String HEALTHY_IMAGE = "faustxvi/with-healthcheck:latest";
+
+    private static final int HEALTHCHECK_DELAY_IN_SECONDS = 10;
+
+    private DefaultDockerClient defaultDockerClient = new DefaultDockerClient();
+
+    private DockerClient dockerClient = DockerClientBuilder
+        .getInstance(createDefaultConfigBuilder().withApiVersion("1.22"))
+        .build();
+
+    private List<Container> existingContainers;
+
+    @BeforeEach
+    public void getExistingContainers() {
+        existingContainers = dockerClient.listContainersCmd().exec();
+    }
+
+    @AfterEach
+    public void stopAndRemoveStartedContainers() {
+        dockerClient.listContainersCmd().withShowAll(true).exec().stream()
+            .filter(container -> !existingContainers.contains(container))
+            .forEach(container -> dockerClient.removeContainerCmd(container.getId()).withForce(true).exec());
+    }
+
+    private String createContainer(String wantedImage) {
+        try {
+            dockerClient.inspectImageCmd(wantedImage).exec();
+        } catch (NotFoundException e) {
+            dockerClient.pullImageCmd(wantedImage).exec(new PullImageResultCallback()).awaitSuccess();
+        }
+        return dockerClient.createContainerCmd(wantedImage).exec().getId();
+    }
+
+    private String createHealthyContainer() {
+        try {
+            dockerClient.inspectImageCmd(HEALTHY_IMAGE).exec();
+        } catch (NotFoundException e) {
+            throw new AssertionError(HEALTHY_IMAGE + " is not published, build it with mvn pre-integration-test", e);
+        }
+        return dockerClient.createContainerCmd(HEALTHY_IMAGE).exec().getId();
+    }
+
+    @Nested
+    @DisplayName("health methods should")
+    class HealthMethods {
+
+        private final List<Closeable> followedEvents = new ArrayList<>();
+
+        @AfterEach
+        public void stopFollowingEvents() throws IOException {
+            for (Closeable events : followedEvents) {
+                events.close();
+            }
+        }
+
+        private CountDownLatch eventReceived(String containerId, String expectedEvent) {
+            CountDownLatch eventReceived = new CountDownLatch(1);
+            followedEvents.add(defaultDockerClient.followEvents(containerId, event -> {
+                if (expectedEvent.equals(event)) eventReceived.countDown();
+            }));
+            return eventReceived;
+        }
+
+        @Test
+        @DisplayName("report a started container as starting then healthy")
+        public void shouldReportHealthOfTheContainer() {
+            String containerId = createHealthyContainer();
+            CountDownLatch healthy = eventReceived(containerId, "health_status: healthy");
+            dockerClient.startContainerCmd(containerId).exec();
+            assertThat(defaultDockerClient.healthStatus(containerId)).isEqualTo(HealthWaiter.STARTING);
+            assertThat(healthy)
+                .overridingErrorMessage("Container should have been reported healthy")
+                .isDownBefore(HEALTHCHECK_DELAY_IN_SECONDS, TimeUnit.SECONDS);
+            assertThat(defaultDockerClient.healthStatus(containerId)).isEqualTo(HealthWaiter.HEALTHY);
+        }
+
+        @Test
+        @DisplayName("report a container without health check")
+        public void shouldReportContainerWithoutHealthCheck() {
+            String containerId = createContainer("faustxvi/simple-two-ports:latest");
+            dockerClient.startContainerCmd(containerId).exec();
+            assertThat(defaultDockerClient.healthStatus(containerId)).isEqualTo(HealthWaiter.NO_HEALTHCHECK);
+        }
+
+        @Test
+        @DisplayName("report the state of a container which died")
+        public void shouldReportStateOfDeadContainer() {
+            String containerId = createContainer("faustxvi/log-and-quit:latest");
+            CountDownLatch died = eventReceived(containerId, HealthWaiter.DIE_EVENT);
+            dockerClient.startContainerCmd(containerId).exec();
+            assertThat(died)
+                .overridingErrorMessage("Container should have died")
+                .isDownBefore(HEALTHCHECK_DELAY_IN_SECONDS, TimeUnit.SECONDS);
+            assertThat(defaultDockerClient.healthStatus(containerId)).isEqualTo("exited");
+        }
+    }
+
+    @Nested
+    @DisplayName("execute method should")
+    class ExecuteMethod {
+
+        private static final long EXEC_TIMEOUT_IN_MILLIS = 10_000;
+
+        private final List<String> output = new CopyOnWriteArrayList<>();
+
+        private String containerId;
+
+        @BeforeEach
+        public void startAContainer() {
+            containerId = createHealthyContainer();
+            dockerClient.startContainerCmd(containerId).exec();
+        }
+
+        @Test
+        @DisplayName("give the exit code and the output of a succeeding command")
+        public void shouldGiveExitCodeAndOutputOfSucceedingCommand() {
+            int exitCode = defaultDockerClient.execute(containerId, EXEC_TIMEOUT_IN_MILLIS, output::add,
+                "/hello", "version");
+            assertThat(exitCode).isEqualTo(ExecWaiter.SUCCESS);
+            assertThat(output).containsExactly("with-healthcheck");
+        }
+
+        @Test
+        @DisplayName("give the exit code and the output of a failing command")
+        public void shouldGiveExitCodeAndOutputOfFailingCommand() {
+            int exitCode = defaultDockerClient.execute(containerId, EXEC_TIMEOUT_IN_MILLIS, output::add,
+                "/hello", "unknown");
+            assertThat(exitCode).isEqualTo(2);
+            assertThat(output).containsExactly("unknown command unknown");
+        }
+
+        @Test
+        @DisplayName("stop waiting for a command running longer than the timeout")
+        public void shouldStopWaitingForHangingCommand() {
+            long start = System.nanoTime();
+            int exitCode = defaultDockerClient.execute(containerId, 100, output::add, "/hello", "hang");
+            assertThat(exitCode).isEqualTo(ReadinessCommands.NO_EXIT_CODE);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(EXEC_TIMEOUT_IN_MILLIS);
+        }
+    }
+}
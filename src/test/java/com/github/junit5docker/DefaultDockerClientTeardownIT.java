@@ -0,0 +1,127 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.command.PullImageResultCallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.dockerjava.core.DefaultDockerClientConfig.createDefaultConfigBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Default docker client's teardown")
+public class DefaultDockerClientTeardownIT {
+
+    private static final String WANTED_IMAGE = "faustxvi/simple-two-ports:latest";
+
+    private DefaultDockerClient defaultDockerClient = new DefaultDockerClient();
+
+    private DockerClient dockerClient = DockerClientBuilder
+        .getInstance(createDefaultConfigBuilder().withApiVersion("1.22"))
+        .build();
+
+    private List<Container> existingContainers;
+
+    private String containerId;
+
+    @BeforeEach
+    public void startAContainer() {
+        existingContainers = dockerClient.listContainersCmd().exec();
+        try {
+            dockerClient.inspectImageCmd(WANTED_IMAGE).exec();
+        } catch (NotFoundException e) {
+            dockerClient.pullImageCmd(WANTED_IMAGE).exec(new PullImageResultCallback()).awaitSuccess();
+        }
+        containerId = dockerClient.createContainerCmd(WANTED_IMAGE).exec().getId();
+        dockerClient.startContainerCmd(containerId).exec();
+    }
+
+    @AfterEach
+    public void stopAndRemoveStartedContainers() {
+        dockerClient.listContainersCmd().exec().stream()
+            .filter(container -> !existingContainers.contains(container))
+            .forEach(container -> {
+                dockerClient.stopContainerCmd(container.getId()).exec();
+                dockerClient.removeContainerCmd(container.getId()).exec();
+            });
+    }
+
+    private void assertThatContainerIsRemoved() {
+        assertThat(dockerClient.listContainersCmd().exec()).hasSize(existingContainers.size());
+        assertThatExceptionOfType(NotFoundException.class)
+            .isThrownBy(() -> dockerClient.inspectContainerCmd(containerId).exec());
+    }
+
+    private void assertThatContainerIsRestartedSince(String previousStart) {
+        InspectContainerResponse.ContainerState state = dockerClient.inspectContainerCmd(containerId).exec()
+            .getState();
+        assertThat(state.getRunning()).isTrue();
+        assertThat(state.getStartedAt()).isNotEqualTo(previousStart);
+    }
+
+    private String startedAt() {
+        return dockerClient.inspectContainerCmd(containerId).exec().getState().getStartedAt();
+    }
+
+    @Nested
+    @DisplayName("stopAndRemove method with a timeout should")
+    class StopAndRemoveContainerWithTimeoutMethod {
+
+        @Test
+        @DisplayName("remove the container")
+        public void shouldRemoveTheContainer() {
+            defaultDockerClient.stopAndRemoveContainer(containerId, 1);
+            assertThatContainerIsRemoved();
+        }
+    }
+
+    @Nested
+    @DisplayName("killAndRemove method should")
+    class KillAndRemoveContainerMethod {
+
+        @Test
+        @DisplayName("remove the container")
+        public void shouldRemoveTheContainer() {
+            defaultDockerClient.killAndRemoveContainer(containerId);
+            assertThatContainerIsRemoved();
+        }
+
+        @Test
+        @DisplayName("remove a container that already exited")
+        public void shouldRemoveAContainerThatAlreadyExited() {
+            dockerClient.killContainerCmd(containerId).exec();
+            defaultDockerClient.killAndRemoveContainer(containerId);
+            assertThatContainerIsRemoved();
+        }
+    }
+
+    @Nested
+    @DisplayName("restartContainer method should")
+    class RestartContainerMethod {
+
+        @Test
+        @DisplayName("start the same container again")
+        public void shouldStartTheSameContainerAgain() {
+            String firstStart = startedAt();
+            defaultDockerClient.restartContainer(containerId, Teardown.DOCKER_DEFAULT_TIMEOUT);
+            assertThatContainerIsRestartedSince(firstStart);
+        }
+
+        @Test
+        @DisplayName("start the same container again once stopped with a timeout")
+        public void shouldStartTheSameContainerAgainOnceStoppedWithATimeout() {
+            String firstStart = startedAt();
+            defaultDockerClient.restartContainer(containerId, 1);
+            assertThatContainerIsRestartedSince(firstStart);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.fakes.FakeExtensionContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DockerExtensionParallelTest {
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final DockerExtension dockerExtension = new DockerExtension(dockerClient);
+
+    @Test
+    void removeTheContainerOfTheFinishedTest() {
+        when(dockerClient.startContainer(anyString(), anyMap(), any())).thenReturn("FIRST", "SECOND");
+        ExtensionContext classContext = new FakeExtensionContext(NewContainerForEachTest.class);
+        ExtensionContext firstTest = new FakeExtensionContext(NewContainerForEachTest.class, classContext);
+        ExtensionContext secondTest = new FakeExtensionContext(NewContainerForEachTest.class, classContext);
+        dockerExtension.beforeEach(firstTest);
+        dockerExtension.beforeEach(secondTest);
+        dockerExtension.afterEach(firstTest);
+        verify(dockerClient).stopAndRemoveContainer("FIRST");
+        verify(dockerClient, never()).stopAndRemoveContainer("SECOND");
+        dockerExtension.afterEach(secondTest);
+        verify(dockerClient).stopAndRemoveContainer("SECOND");
+    }
+
+    @Test
+    void removeTheContainerOfEachFinishedClass() {
+        when(dockerClient.startContainer(anyString(), anyMap(), any())).thenReturn("FIRST", "SECOND");
+        ExtensionContext firstClass = new FakeExtensionContext(ContainerForAllTests.class);
+        ExtensionContext secondClass = new FakeExtensionContext(ContainerForAllTests.class);
+        dockerExtension.beforeAll(firstClass);
+        dockerExtension.beforeAll(secondClass);
+        dockerExtension.afterAll(secondClass);
+        verify(dockerClient).stopAndRemoveContainer("SECOND");
+        verify(dockerClient, never()).stopAndRemoveContainer("FIRST");
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800))
+    private static class NewContainerForEachTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), newForEachCase = false)
+    private static class ContainerForAllTests {
+
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.fakes.FakeExtensionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static com.github.junit5docker.WaitFor.NOTHING;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DockerExtensionSharedContainerTest {
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final DockerExtension dockerExtension = new DockerExtension(dockerClient,
+        new SessionResources(shutdownHook -> { }));
+
+    private final ExtensionContext rootContext = new FakeExtensionContext(SharedContainerTest.class);
+
+    @BeforeEach
+    void callBefore() {
+        when(dockerClient.startContainer(anyString(), anyMap(), any())).thenReturn("SHARED_CONTAINER_ID");
+    }
+
+    @Test
+    void startSharedContainerOnlyOnceForClassesWithTheSameDefinition() {
+        dockerExtension.beforeAll(new FakeExtensionContext(SharedContainerTest.class, rootContext));
+        dockerExtension.beforeAll(new FakeExtensionContext(OtherSharedContainerTest.class, rootContext));
+        verify(dockerClient, times(1)).startContainer(eq("wantedImage"), anyMap(),
+            eq(new PortBinding(8801, 8800)));
+    }
+
+    @Test
+    void notStopSharedContainerAfterAll() {
+        ExtensionContext context = new FakeExtensionContext(SharedContainerTest.class, rootContext);
+        dockerExtension.beforeAll(context);
+        dockerExtension.afterAll(context);
+        verify(dockerClient, never()).stopAndRemoveContainer(any());
+    }
+
+    @Test
+    void ignoreSharingWhenContainerIsRecreatedForEachCase() {
+        ExtensionContext context = new FakeExtensionContext(SharedButRecreatedTest.class, rootContext);
+        dockerExtension.beforeEach(context);
+        dockerExtension.beforeEach(context);
+        dockerExtension.afterEach(context);
+        verify(dockerClient, times(2)).startContainer(eq("wantedImage"), anyMap(), any());
+        verify(dockerClient).stopAndRemoveContainer("SHARED_CONTAINER_ID");
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), newForEachCase = false,
+        sharedBetweenClasses = true)
+    private static class SharedContainerTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), newForEachCase = false,
+        sharedBetweenClasses = true, waitFor = @WaitFor(NOTHING))
+    private static class OtherSharedContainerTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), sharedBetweenClasses = true)
+    private static class SharedButRecreatedTest {
+
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.fakes.FakeExtensionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DockerExtensionStandbyContainersTest {
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final DockerExtension dockerExtension = new DockerExtension(dockerClient);
+
+    private final ExtensionContext classContext = new FakeExtensionContext(StandbyContainersTest.class);
+
+    private final ExtensionContext methodContext = new FakeExtensionContext(StandbyContainersTest.class, classContext);
+
+    @BeforeEach
+    void callBefore() {
+        when(dockerClient.startContainer(anyString(), anyMap(), any())).thenReturn("FIRST", "SECOND", "THIRD");
+    }
+
+    @Test
+    void startStandbyContainersBeforeAll() {
+        dockerExtension.beforeAll(classContext);
+        dockerExtension.afterAll(classContext);
+        verify(dockerClient, times(2)).startContainer(eq("wantedImage"), anyMap(), eq(new PortBinding(8801, 8800)));
+    }
+
+    @Test
+    void useAStandbyContainerForEachCase() {
+        dockerExtension.beforeAll(classContext);
+        dockerExtension.beforeEach(methodContext);
+        dockerExtension.afterEach(methodContext);
+        verify(dockerClient, times(1)).stopAndRemoveContainer(anyString());
+        dockerExtension.afterAll(classContext);
+    }
+
+    @Test
+    void stopRemainingStandbyContainersAfterAll() {
+        dockerExtension.beforeAll(classContext);
+        dockerExtension.beforeEach(methodContext);
+        dockerExtension.afterAll(classContext);
+        verify(dockerClient, times(3)).startContainer(anyString(), anyMap(), any());
+        verify(dockerClient, times(2)).stopAndRemoveContainer(anyString());
+    }
+
+    @Test
+    void notStartStandbyContainersWhenNotRecreatedForEachCase() {
+        ExtensionContext context = new FakeExtensionContext(StandbyButNotRecreatedTest.class);
+        dockerExtension.beforeAll(context);
+        dockerExtension.afterAll(context);
+        verify(dockerClient, times(1)).startContainer(eq("wantedImage"), anyMap(), any());
+    }
+
+    @Test
+    void stopStandbyContainerWhichNeverBecameReady() {
+        when(dockerClient.rawLogs(anyString())).thenReturn(Stream.empty());
+        ExtensionContext context = new FakeExtensionContext(StandbyNeverReadyTest.class);
+        ExtensionContext testContext = new FakeExtensionContext(StandbyNeverReadyTest.class, context);
+        dockerExtension.beforeAll(context);
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> dockerExtension.beforeEach(testContext))
+            .withMessageContaining("not found");
+        dockerExtension.afterAll(context);
+        verify(dockerClient).stopAndRemoveContainer("FIRST");
+    }
+
+    @Test
+    void stopStandbyContainerWhoseReadinessCouldNotBeChecked() {
+        when(dockerClient.rawLogs(anyString())).thenThrow(new IllegalStateException("cannot read logs"));
+        ExtensionContext context = new FakeExtensionContext(StandbyNeverReadyTest.class);
+        ExtensionContext testContext = new FakeExtensionContext(StandbyNeverReadyTest.class, context);
+        dockerExtension.beforeAll(context);
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> dockerExtension.beforeEach(testContext))
+            .withMessage("cannot read logs");
+        dockerExtension.afterAll(context);
+        verify(dockerClient).stopAndRemoveContainer("FIRST");
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), standbyContainers = 2)
+    private static class StandbyContainersTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), standbyContainers = 2,
+        newForEachCase = false)
+    private static class StandbyButNotRecreatedTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), standbyContainers = 1,
+        waitFor = @WaitFor("started"))
+    private static class StandbyNeverReadyTest {
+
+    }
+}
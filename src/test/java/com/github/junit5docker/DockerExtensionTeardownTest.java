@@ -0,0 +1,161 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.fakes.FakeExtensionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static java.time.Duration.ofMillis;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DockerExtensionTeardownTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final DockerExtension dockerExtension = new DockerExtension(dockerClient,
+        new SessionResources(shutdownHook -> { }));
+
+    @BeforeEach
+    void callBefore() {
+        when(dockerClient.startContainer(anyString(), anyMap(), any())).thenReturn("CONTAINER_ID");
+        when(dockerClient.rawLogs(anyString()))
+            .thenAnswer(invocation -> Stream.of("started\nstarted\n".getBytes(UTF_8)));
+    }
+
+    @Test
+    void notWaitForContainerRemovalInBackground() {
+        CountDownLatch removalAllowed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            removalAllowed.await();
+            return null;
+        }).when(dockerClient).stopAndRemoveContainer("CONTAINER_ID");
+        ExtensionContext context = new FakeExtensionContext(BackgroundTeardownTest.class);
+        dockerExtension.beforeEach(context);
+        assertTimeoutPreemptively(ofMillis(500), () -> dockerExtension.afterEach(context),
+            "afterEach should not wait for the container to be removed");
+        removalAllowed.countDown();
+        verify(dockerClient, timeout(500)).stopAndRemoveContainer("CONTAINER_ID");
+    }
+
+    @Test
+    void removeContainerThatNeverGotReadyForATest() {
+        when(dockerClient.rawLogs(anyString())).thenAnswer(invocation -> Stream.empty());
+        ExtensionContext context = new FakeExtensionContext(NeverReadyTest.class);
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> dockerExtension.beforeEach(context));
+        dockerExtension.afterEach(context);
+        verify(dockerClient, timeout(500)).stopAndRemoveContainer("CONTAINER_ID");
+    }
+
+    @Test
+    void removeClassContainerInBackground() {
+        ExtensionContext context = new FakeExtensionContext(BackgroundClassTeardownTest.class);
+        dockerExtension.beforeAll(context);
+        dockerExtension.afterAll(context);
+        verify(dockerClient, timeout(500)).stopAndRemoveContainer("CONTAINER_ID");
+    }
+
+    @Test
+    void killContainerWhenAsked() {
+        ExtensionContext context = new FakeExtensionContext(KillTeardownTest.class);
+        dockerExtension.beforeEach(context);
+        dockerExtension.afterEach(context);
+        verify(dockerClient).killAndRemoveContainer("CONTAINER_ID");
+        verify(dockerClient, never()).stopAndRemoveContainer(anyString());
+    }
+
+    @Test
+    void stopContainerWithTheGivenTimeout() {
+        ExtensionContext context = new FakeExtensionContext(StopTimeoutTeardownTest.class);
+        dockerExtension.beforeEach(context);
+        dockerExtension.afterEach(context);
+        verify(dockerClient).stopAndRemoveContainer("CONTAINER_ID", 2);
+    }
+
+    @Test
+    void restartContainerInsteadOfRemovingIt() {
+        ExtensionContext classContext = new FakeExtensionContext(RestartTeardownTest.class);
+        dockerExtension.beforeAll(classContext);
+        ExtensionContext methodContext = new FakeExtensionContext(RestartTeardownTest.class, classContext);
+        dockerExtension.beforeEach(methodContext);
+        dockerExtension.afterEach(methodContext);
+        verify(dockerClient).restartContainer("CONTAINER_ID", 2);
+        verify(dockerClient, never()).stopAndRemoveContainer(anyString());
+    }
+
+    @Test
+    void reuseRestartedContainerOnceItLogsAgain() {
+        ExtensionContext classContext = new FakeExtensionContext(RestartTeardownTest.class);
+        dockerExtension.beforeAll(classContext);
+        ExtensionContext firstTest = new FakeExtensionContext(RestartTeardownTest.class, classContext);
+        dockerExtension.beforeEach(firstTest);
+        dockerExtension.afterEach(firstTest);
+        ExtensionContext secondTest = new FakeExtensionContext(RestartTeardownTest.class, classContext);
+        dockerExtension.beforeEach(secondTest);
+        dockerExtension.afterEach(secondTest);
+        verify(dockerClient).startContainer(anyString(), anyMap(), any());
+        verify(dockerClient, times(2)).restartContainer("CONTAINER_ID", 2);
+    }
+
+    @Test
+    void removeRestartedContainersAfterAllTests() {
+        ExtensionContext classContext = new FakeExtensionContext(RestartTeardownTest.class);
+        dockerExtension.beforeAll(classContext);
+        ExtensionContext methodContext = new FakeExtensionContext(RestartTeardownTest.class, classContext);
+        dockerExtension.beforeEach(methodContext);
+        dockerExtension.afterEach(methodContext);
+        dockerExtension.afterAll(classContext);
+        verify(dockerClient).stopAndRemoveContainer("CONTAINER_ID", 2);
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800),
+        teardown = @Teardown(strategy = Teardown.Strategy.KILL))
+    private static class KillTeardownTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800),
+        teardown = @Teardown(stopTimeoutInSeconds = 2))
+    private static class StopTimeoutTeardownTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), waitFor = @WaitFor("started"),
+        teardown = @Teardown(strategy = Teardown.Strategy.RESTART, stopTimeoutInSeconds = 2))
+    private static class RestartTeardownTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800),
+        teardown = @Teardown(inBackground = true))
+    private static class BackgroundTeardownTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), newForEachCase = false,
+        teardown = @Teardown(inBackground = true))
+    private static class BackgroundClassTeardownTest {
+
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = 8801, inner = 8800), waitFor = @WaitFor("started"))
+    private static class NeverReadyTest {
+
+    }
+}
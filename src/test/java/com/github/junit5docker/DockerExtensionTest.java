@@ -9,6 +9,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -46,6 +47,8 @@ public class DockerExtensionTest {
 
     static final String WAITED_LOG = "started";
 
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
     private DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
 
     private DockerExtension dockerExtension = new DockerExtension(dockerClient);
@@ -108,7 +111,15 @@ public class DockerExtensionTest {
         public void notWaitByDefault() {
             ExtensionContext context = new FakeExtensionContext(WaitForNothingTest.class);
             dockerExtension.beforeAll(context);
-            verify(dockerClient, never()).logs(anyString());
+            verify(dockerClient, never()).rawLogs(anyString());
+        }
+
+        @Test
+        public void publishTheReadinessTimeOfTheStartedContainer() {
+            FakeExtensionContext context = new FakeExtensionContext(WaitForNothingTest.class);
+            dockerExtension.beforeAll(context);
+            assertThat(context.getReportEntries()).hasSize(1);
+            assertThat(context.getReportEntries().get(0)).containsKey("junit5docker.readiness.millis");
         }
 
         @Test
@@ -141,8 +152,8 @@ public class DockerExtensionTest {
             @Test
             public void closeLogStreamOnceFound() throws ExecutionException, InterruptedException {
                 AtomicBoolean streamClosed = new AtomicBoolean(false);
-                Stream<String> logStream = Stream.of(WAITED_LOG).onClose(() -> streamClosed.set(true));
-                when(dockerClient.logs(argThat(argument -> true))).thenReturn(logStream);
+                Stream<byte[]> logStream = Stream.of(WAITED_LOG.getBytes(UTF_8)).onClose(() -> streamClosed.set(true));
+                when(dockerClient.rawLogs(argThat(argument -> true))).thenReturn(logStream);
                 dockerExtension.beforeAll(new FakeExtensionContext(WaitForLogTest.class));
                 assertThat(streamClosed.get()).as("Stream should be closed").isTrue();
             }
@@ -150,11 +161,11 @@ public class DockerExtensionTest {
             @Test
             public void closeLogEvenWithExceptionOnRead() throws ExecutionException, InterruptedException {
                 AtomicBoolean streamClosed = new AtomicBoolean(false);
-                Stream<String> logStream = Stream.<String>generate(() -> {
+                Stream<byte[]> logStream = Stream.<byte[]>generate(() -> {
                     throw new RuntimeException();
                 })
                     .onClose(() -> streamClosed.set(true));
-                when(dockerClient.logs(argThat(argument -> true))).thenReturn(logStream);
+                when(dockerClient.rawLogs(argThat(argument -> true))).thenReturn(logStream);
                 assertThatThrownBy(
                     () -> dockerExtension.beforeAll(new FakeExtensionContext(WaitForLogTest.class))
                 );
@@ -184,7 +195,7 @@ public class DockerExtensionTest {
                 ExtensionContext context = new FakeExtensionContext(InterruptionTest.class);
                 Thread mainThread = Thread.currentThread();
                 CountDownLatch logRequest = new CountDownLatch(1);
-                when(dockerClient.logs(argThat(argument -> true))).thenAnswer(mock -> {
+                when(dockerClient.rawLogs(argThat(argument -> true))).thenAnswer(mock -> {
                     logRequest.countDown();
                     return unfoundableLog();
                 });
@@ -223,8 +234,8 @@ public class DockerExtensionTest {
 
             private Future<?> sendLogAfter(int waitingTime, TimeUnit timeUnit, ExecutorService executor) {
                 AtomicBoolean sendLog = new AtomicBoolean(false);
-                Stream<String> logStream = fakeLog(sendLog, WAITED_LOG);
-                when(dockerClient.logs(argThat(argument -> true))).thenReturn(logStream);
+                Stream<byte[]> logStream = fakeLog(sendLog, WAITED_LOG);
+                when(dockerClient.rawLogs(argThat(argument -> true))).thenReturn(logStream);
                 return executor.submit(assertNoInterruptionThrown(() -> {
                     timeUnit.sleep(waitingTime);
                     sendLog.set(true);
@@ -239,18 +250,19 @@ public class DockerExtensionTest {
 
         private static final String CONTAINER_ID = "CONTAINER_ID";
 
+        private final ExtensionContext startedContext = new FakeExtensionContext(DefaultCreationContainerTest.class);
+
         @BeforeEach
         public void callBefore() {
             when(dockerClient.startContainer(anyString(), anyMap(),
                 any()))
                 .thenReturn(CONTAINER_ID);
-            dockerExtension.beforeEach(new FakeExtensionContext(DefaultCreationContainerTest.class));
+            dockerExtension.beforeEach(startedContext);
         }
 
         @Test
         public void stopContainer() {
-            ExtensionContext context = new FakeExtensionContext(DefaultCreationContainerTest.class);
-            dockerExtension.afterEach(context);
+            dockerExtension.afterEach(startedContext);
             verify(dockerClient).stopAndRemoveContainer(CONTAINER_ID);
         }
 
@@ -280,17 +292,27 @@ public class DockerExtensionTest {
 
         private static final String CONTAINER_ID = "CONTAINER_ID";
 
+        private final ExtensionContext startedContext = new FakeExtensionContext(OnePortTest.class);
+
         @BeforeEach
         public void callBefore() {
             when(dockerClient.startContainer(anyString(), anyMap(),
                 any()))
                 .thenReturn(CONTAINER_ID);
-            dockerExtension.beforeAll(new FakeExtensionContext(OnePortTest.class));
+            dockerExtension.beforeAll(startedContext);
         }
 
         @Test
         public void stopContainer() {
-            ExtensionContext context = new FakeExtensionContext(OnePortTest.class);
+            dockerExtension.afterAll(startedContext);
+            verify(dockerClient).stopAndRemoveContainer(CONTAINER_ID);
+        }
+
+        @Test
+        public void removeContainerThatNeverGotReady() {
+            ExtensionContext context = new FakeExtensionContext(WaitForNotPresentLogTest.class);
+            when(dockerClient.rawLogs(CONTAINER_ID)).thenAnswer(invocation -> Stream.empty());
+            assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> dockerExtension.beforeAll(context));
             dockerExtension.afterAll(context);
             verify(dockerClient).stopAndRemoveContainer(CONTAINER_ID);
         }
@@ -0,0 +1,145 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.OngoingStubbing;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.junit5docker.assertions.CountDownLatchAssertions.assertThat;
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExecWaiterTest {
+
+    private static final int FAILURE = 1;
+
+    private static final int TIMEOUT_IN_MILLIS = 100;
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final ExecWaiter execWaiter = new ExecWaiter(dockerClient, executor);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void notRunAnythingByDefault() {
+        execWaiter.waitForExecAccordingTo("CONTAINER_ID", WaitForNothingTest.class.getAnnotation(Docker.class));
+        verify(dockerClient, never()).execute(anyString(), anyLong(), any(), any());
+    }
+
+    @Test
+    void notRetrySucceedingCommand() {
+        whenCommandRuns()
+            .thenReturn(ExecWaiter.SUCCESS);
+        execWaiter.waitForExecAccordingTo("CONTAINER_ID", WaitForExecTest.class.getAnnotation(Docker.class));
+        verify(dockerClient).execute(eq("CONTAINER_ID"), anyLong(), any(), eq("pg_isready"), eq("-q"));
+    }
+
+    @Test
+    void notLetCommandRunLongerThanTimeout() {
+        whenCommandRuns()
+            .thenReturn(ExecWaiter.SUCCESS);
+        execWaiter.waitForExecAccordingTo("CONTAINER_ID", TimeoutTest.class.getAnnotation(Docker.class));
+        verify(dockerClient).execute(eq("CONTAINER_ID"), longThat(timeout -> timeout <= TIMEOUT_IN_MILLIS), any(),
+            eq("pg_isready"), eq("-q"));
+    }
+
+    @Test
+    void retryCommandUntilItSucceeds() {
+        whenCommandRuns()
+            .thenReturn(FAILURE, FAILURE, ExecWaiter.SUCCESS);
+        execWaiter.waitForExecAccordingTo("CONTAINER_ID", WaitForExecTest.class.getAnnotation(Docker.class));
+        verify(dockerClient, times(3)).execute(eq("CONTAINER_ID"), anyLong(), any(), eq("pg_isready"), eq("-q"));
+    }
+
+    @Test
+    void timeoutWhenCommandKeepsFailing() {
+        whenCommandRuns().thenReturn(FAILURE);
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> execWaiter.waitForExecAccordingTo("CONTAINER_ID",
+                TimeoutTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("Timeout while waiting for `pg_isready -q`");
+    }
+
+    @Test
+    void notWaitForHangingCommandAfterTimeout() {
+        whenCommandRuns().thenAnswer(invocation -> {
+            Thread.sleep(WaitForExec.DEFAULT_TIMEOUT);
+            return ExecWaiter.SUCCESS;
+        });
+        assertTimeoutPreemptively(ofMillis(WaitForExec.DEFAULT_TIMEOUT / 2), () ->
+            assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> execWaiter.waitForExecAccordingTo("CONTAINER_ID",
+                    TimeoutTest.class.getAnnotation(Docker.class)))
+                .withMessageContaining("Timeout"));
+    }
+
+    @Test
+    void giveExecutorThreadBackAfterTimeout() throws Exception {
+        CountDownLatch commandInterrupted = new CountDownLatch(1);
+        whenCommandRuns().thenAnswer(invocation -> {
+            try {
+                Thread.sleep(WaitForExec.DEFAULT_TIMEOUT);
+            } catch (InterruptedException e) {
+                commandInterrupted.countDown();
+            }
+            return ExecWaiter.SUCCESS;
+        });
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> execWaiter.waitForExecAccordingTo("CONTAINER_ID",
+                TimeoutTest.class.getAnnotation(Docker.class)));
+        assertThat(commandInterrupted)
+            .overridingErrorMessage("The command should have been interrupted")
+            .isDownBefore(WaitForExec.DEFAULT_TIMEOUT / 2, MILLISECONDS);
+        assertThat(executor.submit(() -> "free").get(WaitForExec.DEFAULT_TIMEOUT / 2, MILLISECONDS))
+            .isEqualTo("free");
+    }
+
+    @Test
+    void failWhenCommandCannotBeRun() {
+        whenCommandRuns()
+            .thenThrow(new IllegalStateException("container is not running"));
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> execWaiter.waitForExecAccordingTo("CONTAINER_ID",
+                WaitForExecTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("Could not run `pg_isready -q`");
+    }
+
+    private OngoingStubbing<Integer> whenCommandRuns() {
+        return when(dockerClient.execute(eq("CONTAINER_ID"), anyLong(), any(), eq("pg_isready"), eq("-q")));
+    }
+
+    @Docker(image = "wantedImage", ports = {})
+    private static class WaitForNothingTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitForExec = @WaitForExec({"pg_isready", "-q"}))
+    private static class WaitForExecTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {},
+        waitForExec = @WaitForExec(value = {"pg_isready", "-q"}, timeoutInMillis = TIMEOUT_IN_MILLIS))
+    private static class TimeoutTest {
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.junit5docker.LifecyclePhase.PULL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightRecorderEventsTest {
+
+    @Test
+    void beginEventsOfTheLoadedClass() {
+        LifecycleEvents events = FlightRecorderEvents.load(FixedEvents.class.getName());
+        assertThat(events.begin(PULL)).isSameAs(FixedEvents.EVENT);
+    }
+
+    @Test
+    void beginNoEventWhenTheEventsAreMissing() {
+        LifecycleEvents events = FlightRecorderEvents.load("com.github.junit5docker.MissingEvents");
+        assertThat(events.begin(PULL)).isSameAs(LifecycleEvent.NONE);
+    }
+
+    static final class FixedEvents implements LifecycleEvents {
+
+        static final LifecycleEvent EVENT = (target, testClass) -> {
+        };
+
+        @Override
+        public LifecycleEvent begin(LifecyclePhase phase) {
+            return EVENT;
+        }
+    }
+}
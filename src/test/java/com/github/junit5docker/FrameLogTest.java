@@ -0,0 +1,28 @@
+package com.github.junit5docker;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrameLogTest {
+
+    @Test
+    void giveFramePayloadsAsTheyCome() {
+        FrameLog frameLog = new FrameLog();
+        byte[] firstPayload = {'s', 't', 'a'};
+        byte[] secondPayload = {'r', 't'};
+        frameLog.onNext(new Frame(StreamType.STDOUT, firstPayload));
+        frameLog.onNext(new Frame(StreamType.STDOUT, secondPayload));
+        frameLog.onComplete();
+        assertThat(frameLog.stream()).containsExactly(firstPayload, secondPayload);
+    }
+
+    @Test
+    void interruptDockerThreadWhenInterrupted() {
+        Thread.currentThread().interrupt();
+        new FrameLog(1, LogOverflow.BLOCK).onNext(new Frame(StreamType.STDOUT, new byte[]{'a'}));
+        assertThat(Thread.interrupted()).isTrue();
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.junit5docker.assertions.CountDownLatchAssertions.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class FuturesTest {
+
+    private static final int TIMEOUT_IN_MILLIS = 200;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void startTimeoutWithTheTask() throws InterruptedException, ExecutionException {
+        executor.submit(() -> {
+            MILLISECONDS.sleep(TIMEOUT_IN_MILLIS * 2);
+            return null;
+        });
+        assertThat(Futures.callWithTimeout(executor, () -> "done", TIMEOUT_IN_MILLIS, () -> "Timeout"))
+            .isEqualTo("done");
+    }
+
+    @Test
+    void interruptTaskRunningLongerThanTimeout() {
+        CountDownLatch taskInterrupted = new CountDownLatch(1);
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> Futures.callWithTimeout(executor, () -> {
+                try {
+                    MILLISECONDS.sleep(TIMEOUT_IN_MILLIS * 10);
+                } catch (InterruptedException e) {
+                    taskInterrupted.countDown();
+                }
+                return null;
+            }, 1, () -> "Timeout of the task"))
+            .withMessage("Timeout of the task");
+        assertThat(taskInterrupted).isDownBefore(TIMEOUT_IN_MILLIS, MILLISECONDS);
+    }
+}
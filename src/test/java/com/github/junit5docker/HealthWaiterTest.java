@@ -0,0 +1,135 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static java.time.Duration.ofMillis;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HealthWaiterTest {
+
+    private static final long EVENT_DELAY_IN_MILLIS = 50;
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final HealthWaiter healthWaiter = new HealthWaiter(dockerClient);
+
+    private final Closeable events = mock(Closeable.class);
+
+    private final CompletableFuture<Consumer<String>> eventListener = new CompletableFuture<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void followEvents() {
+        when(dockerClient.followEvents(anyString(), any())).thenAnswer(invocation -> {
+            eventListener.complete(invocation.getArgument(1));
+            return events;
+        });
+        when(dockerClient.healthStatus("CONTAINER_ID")).thenReturn(HealthWaiter.STARTING);
+    }
+
+    @Test
+    void notFollowEventsByDefault() {
+        healthWaiter.waitForHealthAccordingTo("CONTAINER_ID", WaitForNothingTest.class.getAnnotation(Docker.class));
+        verify(dockerClient, never()).followEvents(anyString(), any());
+    }
+
+    @Test
+    void notWaitForAlreadyHealthyContainer() throws IOException {
+        when(dockerClient.healthStatus("CONTAINER_ID")).thenReturn(HealthWaiter.HEALTHY);
+        healthWaiter.waitForHealthAccordingTo("CONTAINER_ID", WaitForHealthTest.class.getAnnotation(Docker.class));
+        verify(events).close();
+    }
+
+    @Test
+    void waitUntilContainerIsReportedHealthy() {
+        sendEventLater("health_status: healthy");
+        assertTimeoutPreemptively(ofMillis(WaitForHealth.DEFAULT_TIMEOUT / 2), () ->
+            healthWaiter.waitForHealthAccordingTo("CONTAINER_ID", WaitForHealthTest.class.getAnnotation(Docker.class)));
+    }
+
+    @Test
+    void failAsSoonAsContainerDies() {
+        sendEventLater("die");
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertTimeoutPreemptively(ofMillis(WaitForHealth.DEFAULT_TIMEOUT / 2),
+                () -> healthWaiter.waitForHealthAccordingTo("CONTAINER_ID",
+                    WaitForHealthTest.class.getAnnotation(Docker.class))))
+            .withMessageContaining("died");
+    }
+
+    @Test
+    void failAsSoonAsContainerIsUnhealthy() {
+        sendEventLater("health_status: unhealthy");
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> healthWaiter.waitForHealthAccordingTo("CONTAINER_ID",
+                WaitForHealthTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("unhealthy");
+    }
+
+    @Test
+    void failWithoutHealthCheck() {
+        when(dockerClient.healthStatus("CONTAINER_ID")).thenReturn(HealthWaiter.NO_HEALTHCHECK);
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> healthWaiter.waitForHealthAccordingTo("CONTAINER_ID",
+                WaitForHealthTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("no health check");
+    }
+
+    @Test
+    void timeoutWhileContainerIsStarting() throws IOException {
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> healthWaiter.waitForHealthAccordingTo("CONTAINER_ID",
+                TimeoutTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("Timeout");
+        verify(events).close();
+        assertThat(eventListener).isDone();
+    }
+
+    @Test
+    void failWhenEventsCannotBeClosed() throws IOException {
+        when(dockerClient.healthStatus("CONTAINER_ID")).thenReturn(HealthWaiter.HEALTHY);
+        doThrow(new IOException("cannot close")).when(events).close();
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> healthWaiter.waitForHealthAccordingTo("CONTAINER_ID",
+                WaitForHealthTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("cannot close");
+    }
+
+    private void sendEventLater(String event) {
+        eventListener.thenAcceptAsync(listener -> {
+            try {
+                Thread.sleep(EVENT_DELAY_IN_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            listener.accept(event);
+        });
+    }
+
+    @Docker(image = "wantedImage", ports = {})
+    private static class WaitForNothingTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitForHealth = @WaitForHealth)
+    private static class WaitForHealthTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitForHealth = @WaitForHealth(timeoutInMillis = 10))
+    private static class TimeoutTest {
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.junit5docker;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpProbeTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int READY_AFTER_REQUESTS = 3;
+
+    private static final long TIMEOUT_IN_MILLIS = 2000;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+
+    private URL url;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/health", this::answerHealth);
+        server.start();
+        url = new URL("http", "localhost", server.getAddress().getPort(), "/health");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void beReadyOnceStatusIsExpected() throws InterruptedException {
+        assertThat(probeOf(StatusTest.class).awaitReady(TIMEOUT_IN_MILLIS)).isTrue();
+        assertThat(requests.get()).isEqualTo(READY_AFTER_REQUESTS);
+    }
+
+    @Test
+    void beReadyOnceBodyMatches() throws InterruptedException {
+        assertThat(probeOf(BodyTest.class).awaitReady(TIMEOUT_IN_MILLIS)).isTrue();
+        assertThat(requests.get()).isEqualTo(READY_AFTER_REQUESTS);
+    }
+
+    @Test
+    void reuseTheSameConnectionBetweenAttempts() throws InterruptedException {
+        probeOf(StatusTest.class).awaitReady(TIMEOUT_IN_MILLIS);
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    void giveUpAfterTimeout() throws InterruptedException {
+        assertThat(probeOf(NeverReadyTest.class).awaitReady(100)).isFalse();
+    }
+
+    @Test
+    void notBeReadyWhileNothingListens() throws InterruptedException {
+        server.stop(0);
+        assertThat(probeOf(StatusTest.class).awaitReady(100)).isFalse();
+    }
+
+    private HttpProbe probeOf(Class<?> testClass) {
+        return new HttpProbe(url, testClass.getAnnotation(Docker.class).waitForHttp());
+    }
+
+    private void answerHealth(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        boolean ready = requests.incrementAndGet() >= READY_AFTER_REQUESTS;
+        byte[] body = (ready ? "UP" : "STARTING").getBytes(UTF_8);
+        exchange.sendResponseHeaders(ready ? 200 : 503, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitForHttp = @WaitForHttp("/health"))
+    private static class StatusTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitForHttp = @WaitForHttp(value = "/health",
+        statusCodes = {200, 503}, bodyPattern = "UP"))
+    private static class BodyTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitForHttp = @WaitForHttp(value = "/health", statusCodes = 204))
+    private static class NeverReadyTest {
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.junit5docker;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HttpWaiterTest {
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final HttpWaiter httpWaiter = new HttpWaiter(dockerClient);
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/health", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void notRequestAnythingByDefault() {
+        httpWaiter.waitForHttpAccordingTo("CONTAINER_ID", WaitForNothingTest.class.getAnnotation(Docker.class));
+        verify(dockerClient, never()).mappedPorts(anyString());
+    }
+
+    @Test
+    void requestTheFirstDeclaredPortByDefault() {
+        when(dockerClient.mappedPorts("CONTAINER_ID")).thenReturn(singletonMap(8080, server.getAddress().getPort()));
+        httpWaiter.waitForHttpAccordingTo("CONTAINER_ID", FirstPortTest.class.getAnnotation(Docker.class));
+        verify(dockerClient).mappedPorts("CONTAINER_ID");
+    }
+
+    @Test
+    void requestTheChosenPort() {
+        when(dockerClient.mappedPorts("CONTAINER_ID")).thenReturn(singletonMap(9090, server.getAddress().getPort()));
+        httpWaiter.waitForHttpAccordingTo("CONTAINER_ID", ChosenPortTest.class.getAnnotation(Docker.class));
+        verify(dockerClient).mappedPorts("CONTAINER_ID");
+    }
+
+    @Test
+    void failWhenPortIsNotMapped() {
+        when(dockerClient.mappedPorts("CONTAINER_ID")).thenReturn(Collections.emptyMap());
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> httpWaiter.waitForHttpAccordingTo("CONTAINER_ID",
+                FirstPortTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("not mapped");
+    }
+
+    @Test
+    void timeoutWhenEndpointDoesNotAnswerAsExpected() {
+        when(dockerClient.mappedPorts("CONTAINER_ID")).thenReturn(singletonMap(8080, server.getAddress().getPort()));
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> httpWaiter.waitForHttpAccordingTo("CONTAINER_ID",
+                MissingEndpointTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("Timeout");
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = Port.ANY_FREE_PORT, inner = 8080))
+    private static class WaitForNothingTest {
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = Port.ANY_FREE_PORT, inner = 8080),
+        waitForHttp = @WaitForHttp("/health"))
+    private static class FirstPortTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {@Port(exposed = Port.ANY_FREE_PORT, inner = 8080),
+        @Port(exposed = Port.ANY_FREE_PORT, inner = 9090)}, waitForHttp = @WaitForHttp(value = "/health", port = 9090))
+    private static class ChosenPortTest {
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = Port.ANY_FREE_PORT, inner = 8080),
+        waitForHttp = @WaitForHttp(value = "/missing", timeoutInMillis = 100))
+    private static class MissingEndpointTest {
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static com.github.junit5docker.assertions.CountDownLatchAssertions.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+class ImagePrePullerTest {
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    @SuppressWarnings("unchecked")
+    private final Supplier<DockerClientAdapter> clientSupplier = mock(Supplier.class);
+
+    private final ImagePrePuller imagePrePuller = new ImagePrePuller(() -> dockerClient, 2);
+
+    @Test
+    void pullEachImageOfTheTestPlanOnce() {
+        imagePrePuller.testPlanExecutionStarted(testPlanOf(
+            FirstImageTest.class, FirstImageAgainTest.class, SecondImageTest.class, NotDockerTest.class));
+        verify(dockerClient).ensureImageExists("firstImage");
+        verify(dockerClient).ensureImageExists("secondImage");
+    }
+
+    @Test
+    void notCreateClientWithoutDockerTests() {
+        new ImagePrePuller(clientSupplier, 2).testPlanExecutionStarted(testPlanOf(NotDockerTest.class));
+        verifyZeroInteractions(clientSupplier);
+    }
+
+    @Test
+    void pullImagesInParallel() {
+        CountDownLatch bothPullsStarted = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            bothPullsStarted.countDown();
+            bothPullsStarted.await(500, MILLISECONDS);
+            return null;
+        }).when(dockerClient).ensureImageExists(anyString());
+        imagePrePuller.pullAll(imagesOf("firstImage", "secondImage"));
+        assertThat(bothPullsStarted)
+            .overridingErrorMessage("Both images should be pulled at the same time")
+            .isDownBefore(0, MILLISECONDS);
+    }
+
+    @Test
+    void reportPullDurationOfEachImage() {
+        Map<String, Long> pullDurations = imagePrePuller.pullAll(imagesOf("firstImage", "secondImage"));
+        assertThat(pullDurations).containsOnlyKeys("firstImage", "secondImage");
+    }
+
+    @Test
+    void keepPullingWhenAPullFails() {
+        doThrow(new IllegalStateException("No such image")).when(dockerClient).ensureImageExists("firstImage");
+        Map<String, Long> pullDurations = imagePrePuller.pullAll(imagesOf("firstImage", "secondImage"));
+        assertThat(pullDurations).containsOnlyKeys("secondImage");
+    }
+
+    private static Set<String> imagesOf(String... images) {
+        return new LinkedHashSet<>(Arrays.asList(images));
+    }
+
+    private static TestPlan testPlanOf(Class<?>... testClasses) {
+        EngineDescriptor engine = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+        for (Class<?> testClass : testClasses) {
+            engine.addChild(new ClassDescriptor(engine.getUniqueId(), testClass));
+        }
+        return TestPlan.from(Collections.singletonList(engine));
+    }
+
+    private static final class ClassDescriptor extends AbstractTestDescriptor {
+
+        private ClassDescriptor(UniqueId parentId, Class<?> testClass) {
+            super(parentId.append("class", testClass.getName()), testClass.getSimpleName(),
+                ClassSource.from(testClass));
+        }
+
+        @Override
+        public Type getType() {
+            return Type.CONTAINER;
+        }
+    }
+
+    @Docker(image = "firstImage", ports = {})
+    private static class FirstImageTest {
+
+    }
+
+    @Docker(image = "firstImage", ports = {})
+    private static class FirstImageAgainTest {
+
+    }
+
+    @Docker(image = "secondImage", ports = {})
+    private static class SecondImageTest {
+
+    }
+
+    private static class NotDockerTest {
+
+    }
+}
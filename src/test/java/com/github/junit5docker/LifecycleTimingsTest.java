@@ -0,0 +1,88 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.fakes.FakeExtensionContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.junit5docker.LifecyclePhase.PULL;
+import static com.github.junit5docker.LifecyclePhase.READINESS;
+import static com.github.junit5docker.LifecyclePhase.START;
+import static com.github.junit5docker.LifecycleTimings.recordTimings;
+import static com.github.junit5docker.LifecycleTimings.timed;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LifecycleTimingsTest {
+
+    private static final long PHASE_DURATION_IN_MILLIS = 20;
+
+    private final FakeExtensionContext context = new FakeExtensionContext(LifecycleTimingsTest.class);
+
+    @Test
+    void publishTheDurationOfEachPhase() {
+        recordTimings(context, () -> {
+            timed(START, "CONTAINER_ID", () -> sleep(PHASE_DURATION_IN_MILLIS));
+            timed(READINESS, "CONTAINER_ID", () -> sleep(PHASE_DURATION_IN_MILLIS));
+        });
+        assertThat(context.getReportEntries()).hasSize(1);
+        assertThat(context.getReportEntries().get(0))
+            .containsOnlyKeys("junit5docker.start.millis", "junit5docker.readiness.millis");
+        assertThat(Long.parseLong(context.getReportEntries().get(0).get("junit5docker.start.millis")))
+            .isGreaterThanOrEqualTo(PHASE_DURATION_IN_MILLIS);
+    }
+
+    @Test
+    void sumTheDurationsOfTheSamePhase() {
+        recordTimings(context, () -> {
+            timed(START, "CONTAINER_ID", () -> sleep(PHASE_DURATION_IN_MILLIS));
+            timed(START, "CONTAINER_ID", () -> sleep(PHASE_DURATION_IN_MILLIS));
+        });
+        assertThat(Long.parseLong(context.getReportEntries().get(0).get("junit5docker.start.millis")))
+            .isGreaterThanOrEqualTo(2 * PHASE_DURATION_IN_MILLIS);
+    }
+
+    @Test
+    void returnTheResultOfTheTimedAction() {
+        assertThat(timed(START, "CONTAINER_ID", () -> "CONTAINER_ID")).isEqualTo("CONTAINER_ID");
+    }
+
+    @Test
+    void notPublishAnythingWithoutDockerCalls() {
+        recordTimings(context, () -> {
+        });
+        assertThat(context.getReportEntries()).isEmpty();
+    }
+
+    @Test
+    void publishTimingsEvenWhenTheCallbackFails() {
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> recordTimings(context, () ->
+            timed(PULL, "wantedImage:latest", () -> {
+                throw new IllegalStateException("pull failed");
+            })));
+        assertThat(context.getReportEntries().get(0)).containsOnlyKeys("junit5docker.pull.millis");
+    }
+
+    @Test
+    void notRecordPhasesOfOtherThreads() {
+        recordTimings(context, () ->
+            CompletableFuture.runAsync(() -> timed(START, "CONTAINER_ID", () -> { })).join());
+        assertThat(context.getReportEntries()).isEmpty();
+    }
+
+    @Test
+    void notRecordPhasesOutsideCallbacks() {
+        timed(START, "CONTAINER_ID", () -> { });
+        recordTimings(context, () -> {
+        });
+        assertThat(context.getReportEntries()).isEmpty();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LineDecoderTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final List<String> lines = new ArrayList<>();
+
+    private LineDecoder lineDecoder;
+
+    @BeforeEach
+    public void createDecoder() {
+        lineDecoder = new LineDecoder(UTF_8);
+        lines.clear();
+    }
+
+    @Test
+    public void shouldEmitEveryLineOfAFrame() throws InterruptedException {
+        lineDecoder.decode("first\nsecond\n".getBytes(UTF_8), lines::add);
+        assertThat(lines).containsExactly("first", "second");
+    }
+
+    @Test
+    public void shouldKeepPartialLineUntilItsEnd() throws InterruptedException {
+        lineDecoder.decode("beginning of ".getBytes(UTF_8), lines::add);
+        assertThat(lines).isEmpty();
+        lineDecoder.decode("the line\n".getBytes(UTF_8), lines::add);
+        assertThat(lines).containsExactly("beginning of the line");
+    }
+
+    @Test
+    public void shouldDecodeCharactersSplitBetweenFrames() throws InterruptedException {
+        byte[] bytes = "accent é\n".getBytes(UTF_8);
+        int middleOfAccent = bytes.length - 2;
+        lineDecoder.decode(Arrays.copyOfRange(bytes, 0, middleOfAccent), lines::add);
+        lineDecoder.decode(Arrays.copyOfRange(bytes, middleOfAccent, bytes.length), lines::add);
+        assertThat(lines).containsExactly("accent é");
+    }
+
+    @Test
+    public void shouldRemoveCarriageReturnOfLines() throws InterruptedException {
+        lineDecoder.decode("tty line\r\n".getBytes(UTF_8), lines::add);
+        assertThat(lines).containsExactly("tty line");
+    }
+
+    @Test
+    public void shouldEmitPartialLineWhenFinished() throws InterruptedException {
+        lineDecoder.decode("last line".getBytes(UTF_8), lines::add);
+        lineDecoder.finish(lines::add);
+        assertThat(lines).containsExactly("last line");
+    }
+
+    @Test
+    public void shouldReplaceMalformedCharacters() throws InterruptedException {
+        lineDecoder.decode(new byte[]{'a', (byte) 0xE9, '\n'}, lines::add);
+        assertThat(lines).containsExactly("a�");
+    }
+
+    @Test
+    public void shouldDecodeLinesLargerThanItsBuffers() throws InterruptedException {
+        char[] longLine = new char[20000];
+        Arrays.fill(longLine, 'x');
+        lineDecoder.decode((new String(longLine) + "\n").getBytes(UTF_8), lines::add);
+        assertThat(lines).containsExactly(new String(longLine));
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiteralAutomatonTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    void findEveryLiteralInOnePass() {
+        assertThat(matchesIn("ushers", "he", "she", "his", "hers")).containsExactly("she", "he", "hers");
+    }
+
+    @Test
+    void findOverlappingOccurrences() {
+        assertThat(matchesIn("aaaa", "aa")).containsExactly("aa", "aa", "aa");
+    }
+
+    @Test
+    void findLiteralAfterAPartialMatch() {
+        assertThat(matchesIn("aaab", "aab")).containsExactly("aab");
+    }
+
+    @Test
+    void findMultiByteLiterals() {
+        assertThat(matchesIn("accent é", "é")).containsExactly("é");
+    }
+
+    @Test
+    void findNothingWithoutLiterals() {
+        assertThat(matchesIn("anything")).isEmpty();
+    }
+
+    private static List<String> matchesIn(String text, String... literals) {
+        List<byte[]> encodedLiterals = new ArrayList<>();
+        for (String literal : literals) {
+            encodedLiterals.add(literal.getBytes(UTF_8));
+        }
+        LiteralAutomaton automaton = new LiteralAutomaton(encodedLiterals);
+        List<String> matches = new ArrayList<>();
+        int state = LiteralAutomaton.INITIAL_STATE;
+        for (byte value : text.getBytes(UTF_8)) {
+            state = automaton.next(state, value);
+            for (int match = 0; match < automaton.matchCount(state); match++) {
+                matches.add(literals[automaton.matchAt(state, match)]);
+            }
+        }
+        return matches;
+    }
+}
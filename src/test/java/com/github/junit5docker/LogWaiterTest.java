@@ -0,0 +1,117 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LogWaiterTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int TIMEOUTS = 20;
+
+    private static final long RELEASE_DELAY_IN_MILLIS = 1000;
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final ExecutorService executor = ReadinessExecutor.platformThreadExecutor(1);
+
+    private final LogWaiter logWaiter = new LogWaiter(dockerClient, executor);
+
+    private final ReadinessConditions conditions = new ReadinessConditions();
+
+    private final AtomicInteger openedLogs = new AtomicInteger();
+
+    @AfterEach
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void closeLogsAndReleaseThreadsOnTimeout() throws InterruptedException, ExecutionException {
+        when(dockerClient.rawLogs(anyString())).thenAnswer(invocation -> silentLog().stream());
+        WaitFor waitFor = TimeoutTest.class.getAnnotation(Docker.class).waitFor();
+        for (int i = 0; i < TIMEOUTS; i++) {
+            assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> logWaiter.waitForLogAccordingTo("CONTAINER_ID", waitFor, conditions, 0))
+                .withMessageContaining("Timeout");
+        }
+        assertThat(openedLogs.get()).as("Log streams should be closed").isZero();
+        assertThat(readinessThreadReleased()).as("Readiness thread should be released").isTrue();
+    }
+
+    @Test
+    void releaseThreadsWhenLogsDoNotCloseOnTimeout() throws InterruptedException, ExecutionException {
+        when(dockerClient.rawLogs(anyString())).thenAnswer(invocation -> Stream.generate(() -> new byte[0]));
+        WaitFor waitFor = TimeoutTest.class.getAnnotation(Docker.class).waitFor();
+        for (int i = 0; i < TIMEOUTS; i++) {
+            assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> logWaiter.waitForLogAccordingTo("CONTAINER_ID", waitFor, conditions, 0));
+        }
+        assertThat(readinessThreadReleased()).as("Readiness thread should be released").isTrue();
+    }
+
+    @Test
+    void useTheSameThreadsForEveryWait() {
+        when(dockerClient.rawLogs(anyString())).thenAnswer(invocation -> Stream.of("started".getBytes(UTF_8)));
+        WaitFor waitFor = TimeoutTest.class.getAnnotation(Docker.class).waitFor();
+        for (int i = 0; i < TIMEOUTS; i++) {
+            logWaiter.waitForLogAccordingTo("CONTAINER_ID", waitFor, conditions, 0);
+        }
+        assertThat(((ThreadPoolExecutor) executor).getLargestPoolSize())
+            .as("Only the single pool thread should be started")
+            .isEqualTo(1);
+    }
+
+    private FrameLog silentLog() {
+        openedLogs.incrementAndGet();
+        return new FrameLog() {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                openedLogs.decrementAndGet();
+            }
+        };
+    }
+
+    @Test
+    void searchRegularExpressionsInDecodedLines() {
+        when(dockerClient.logs(anyString())).thenAnswer(invocation -> Stream.of("listening on port 8080"));
+        WaitFor waitFor = RegexTest.class.getAnnotation(Docker.class).waitFor();
+        logWaiter.waitForLogAccordingTo("CONTAINER_ID", waitFor, conditions, 0);
+        verify(dockerClient, never()).rawLogs(anyString());
+    }
+
+    private boolean readinessThreadReleased() throws InterruptedException, ExecutionException {
+        try {
+            return executor.submit(() -> true).get(RELEASE_DELAY_IN_MILLIS, MILLISECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor(value = "started", timeoutInMillis = 10))
+    private static class TimeoutTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor(value = "port \\d+", regex = true))
+    private static class RegexTest {
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.fakes.FakeExtensionContext;
+import com.github.junit5docker.fakes.FakeParameterContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MappedPortResolverTest {
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final MappedPortResolver mappedPortResolver = new MappedPortResolver(dockerClient);
+
+    private final ExtensionContext classContext = new FakeExtensionContext(AnyFreePortTest.class);
+
+    private final ExtensionContext methodContext = new FakeExtensionContext(AnyFreePortTest.class, classContext);
+
+    @BeforeEach
+    void startContainer() {
+        when(dockerClient.startContainer(anyString(), anyMap(), any())).thenReturn("CONTAINER_ID");
+        when(dockerClient.mappedPorts("CONTAINER_ID")).thenReturn(Collections.singletonMap(8080, 32768));
+    }
+
+    @Test
+    void supportAnnotatedIntegers() throws NoSuchMethodException {
+        assertThat(mappedPortResolver.supportsParameter(parameter("primitivePort", int.class), methodContext))
+            .isTrue();
+        assertThat(mappedPortResolver.supportsParameter(parameter("boxedPort", Integer.class), methodContext))
+            .isTrue();
+    }
+
+    @Test
+    void notSupportOtherParameters() throws NoSuchMethodException {
+        assertThat(mappedPortResolver.supportsParameter(parameter("notAnnotated", int.class), methodContext))
+            .isFalse();
+        assertThat(mappedPortResolver.supportsParameter(parameter("notAPort", String.class), methodContext))
+            .isFalse();
+    }
+
+    @Test
+    void resolvePortMappedToTheClassContainer() throws NoSuchMethodException {
+        new DockerExtension(dockerClient).beforeAll(classContext);
+        Object mappedPort = mappedPortResolver.resolveParameter(parameter("primitivePort", int.class), methodContext);
+        assertThat(mappedPort).isEqualTo(32768);
+    }
+
+    @Test
+    void failWhenNoContainerIsStarted() throws NoSuchMethodException {
+        ParameterContext parameterContext = parameter("primitivePort", int.class);
+        assertThatThrownBy(() -> mappedPortResolver.resolveParameter(parameterContext, methodContext))
+            .isInstanceOf(ParameterResolutionException.class)
+            .hasMessageContaining("8080");
+    }
+
+    @Test
+    void failWhenThePortIsNotMapped() throws NoSuchMethodException {
+        new DockerExtension(dockerClient).beforeAll(classContext);
+        ParameterContext parameterContext = parameter("unmappedPort", int.class);
+        assertThatThrownBy(() -> mappedPortResolver.resolveParameter(parameterContext, methodContext))
+            .isInstanceOf(ParameterResolutionException.class)
+            .hasMessage("Port 9090 is not mapped by container CONTAINER_ID");
+    }
+
+    private ParameterContext parameter(String methodName, Class<?> parameterType) throws NoSuchMethodException {
+        return new FakeParameterContext(
+            AnyFreePortTest.class.getDeclaredMethod(methodName, parameterType).getParameters()[0]);
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = Port.ANY_FREE_PORT, inner = 8080), newForEachCase = false)
+    @SuppressWarnings("unused")
+    private static class AnyFreePortTest {
+
+        void primitivePort(@MappedPort(8080) int port) {
+        }
+
+        void boxedPort(@MappedPort(8080) Integer port) {
+        }
+
+        void unmappedPort(@MappedPort(9090) int port) {
+        }
+
+        void notAnnotated(int port) {
+        }
+
+        void notAPort(@MappedPort(8080) String port) {
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortProbeTest {
+
+    private static final long TIMEOUT_IN_MILLIS = 2000;
+
+    private static final long BINDING_DELAY_IN_MILLIS = 100;
+
+    private ServerSocket firstServer;
+
+    private ServerSocket secondServer;
+
+    @AfterEach
+    void closeServers() throws IOException {
+        if (firstServer != null) firstServer.close();
+        if (secondServer != null) secondServer.close();
+    }
+
+    @Test
+    void beReadyWhenEveryPortAcceptsConnections() throws IOException, InterruptedException {
+        firstServer = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        secondServer = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        PortProbe probe = new PortProbe(asList(addressOf(firstServer), addressOf(secondServer)));
+        assertThat(probe.awaitAccepting(TIMEOUT_IN_MILLIS)).isTrue();
+    }
+
+    @Test
+    void retryUntilPortIsBound() throws IOException, InterruptedException {
+        int port = freePort();
+        CompletableFuture<ServerSocket> bindingServer = CompletableFuture.supplyAsync(() -> bindLater(port));
+        long start = System.nanoTime();
+        boolean accepted = new PortProbe(singletonList(new InetSocketAddress(InetAddress.getLoopbackAddress(), port)))
+            .awaitAccepting(TIMEOUT_IN_MILLIS);
+        long durationInMillis = (System.nanoTime() - start) / 1_000_000;
+        firstServer = bindingServer.join();
+        assertThat(accepted).isTrue();
+        assertThat(durationInMillis).isBetween(BINDING_DELAY_IN_MILLIS, TIMEOUT_IN_MILLIS);
+    }
+
+    @Test
+    void giveUpAfterTimeout() throws IOException, InterruptedException {
+        int port = freePort();
+        PortProbe probe = new PortProbe(singletonList(new InetSocketAddress(InetAddress.getLoopbackAddress(), port)));
+        assertThat(probe.awaitAccepting(BINDING_DELAY_IN_MILLIS)).isFalse();
+    }
+
+    private static InetSocketAddress addressOf(ServerSocket server) {
+        return new InetSocketAddress(server.getInetAddress(), server.getLocalPort());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return server.getLocalPort();
+        }
+    }
+
+    private static ServerSocket bindLater(int port) {
+        try {
+            Thread.sleep(BINDING_DELAY_IN_MILLIS);
+            return new ServerSocket(port, 1, InetAddress.getLoopbackAddress());
+        } catch (IOException | InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Collections;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PortWaiterTest {
+
+    private final DockerClientAdapter dockerClient = mock(DockerClientAdapter.class);
+
+    private final PortWaiter portWaiter = new PortWaiter(dockerClient);
+
+    private ServerSocket server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void notProbePortsByDefault() {
+        portWaiter.waitForPortsAccordingTo("CONTAINER_ID", WaitForNothingTest.class.getAnnotation(Docker.class));
+        verify(dockerClient, never()).mappedPorts(anyString());
+    }
+
+    @Test
+    void waitForMappedPortsToAcceptConnections() {
+        when(dockerClient.mappedPorts("CONTAINER_ID")).thenReturn(singletonMap(8080, server.getLocalPort()));
+        portWaiter.waitForPortsAccordingTo("CONTAINER_ID", WaitForPortsTest.class.getAnnotation(Docker.class));
+        verify(dockerClient).mappedPorts("CONTAINER_ID");
+    }
+
+    @Test
+    void failWhenDeclaredPortIsNotMapped() {
+        when(dockerClient.mappedPorts("CONTAINER_ID")).thenReturn(Collections.emptyMap());
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> portWaiter.waitForPortsAccordingTo("CONTAINER_ID",
+                WaitForPortsTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("not mapped");
+    }
+
+    @Test
+    void timeoutWhenPortsDoNotAcceptConnections() throws IOException {
+        int closedPort = server.getLocalPort();
+        server.close();
+        when(dockerClient.mappedPorts("CONTAINER_ID")).thenReturn(singletonMap(8080, closedPort));
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> portWaiter.waitForPortsAccordingTo("CONTAINER_ID",
+                WaitForPortsTest.class.getAnnotation(Docker.class)))
+            .withMessageContaining("Timeout");
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = Port.ANY_FREE_PORT, inner = 8080))
+    private static class WaitForNothingTest {
+    }
+
+    @Docker(image = "wantedImage", ports = @Port(exposed = Port.ANY_FREE_PORT, inner = 8080),
+        waitForPorts = @WaitForPorts(timeoutInMillis = 100))
+    private static class WaitForPortsTest {
+    }
+}
@@ -6,8 +6,6 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.NoSuchElementException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -20,33 +18,30 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class QueueIteratorTest {
 
-    private BlockingQueue<String> lines;
-
-    private QueueIterator iterator;
+    private QueueIterator<String> iterator;
 
     @BeforeEach
     public void createIterater() {
-        lines = new ArrayBlockingQueue<>(1);
-        iterator = new QueueIterator(lines);
+        iterator = new QueueIterator<>(1, LogOverflow.BLOCK);
     }
 
     @Test
     public void shouldHaveNothingIfClosed() throws InterruptedException {
         iterator.close();
-        lines.put("a line");
+        iterator.push("a line");
         assertThat(iterator.hasNext()).isFalse();
     }
 
     @Test
     public void shouldHaveContentIfDataIsInQueue() throws InterruptedException {
-        lines.put("a line");
+        iterator.push("a line");
         assertThat(iterator.hasNext()).isTrue();
         assertThat(iterator.next()).isEqualTo("a line");
     }
 
     @Test
     public void shouldReadLineOnlyOnce() throws InterruptedException {
-        lines.put("a line");
+        iterator.push("a line");
         iterator.hasNext();
         iterator.next();
         iterator.close();
@@ -55,12 +50,51 @@ public class QueueIteratorTest {
 
     @Test
     public void shouldThrowAnExceptionIfNoElement() throws InterruptedException {
-        lines.put("a line");
+        iterator.push("a line");
         iterator.hasNext();
         iterator.next();
         assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> iterator.next());
     }
 
+    @Test
+    public void shouldGiveLastLineBeforeEnding() throws InterruptedException {
+        iterator.push("a line");
+        iterator.end();
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isEqualTo("a line");
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldGiveBufferedLinesInOrder() throws InterruptedException {
+        iterator = new QueueIterator<>(3, LogOverflow.BLOCK);
+        iterator.push("line 1");
+        iterator.push("line 2");
+        iterator.push("line 3");
+        iterator.end();
+        assertThat(iterator).containsExactly("line 1", "line 2", "line 3");
+    }
+
+    @Test
+    public void shouldDropOldestLinesWhenAskedTo() throws InterruptedException {
+        iterator = new QueueIterator<>(2, LogOverflow.DROP_OLDEST);
+        iterator.push("line 1");
+        iterator.push("line 2");
+        iterator.push("line 3");
+        iterator.end();
+        assertThat(iterator).containsExactly("line 2", "line 3");
+    }
+
+    @Test
+    public void shouldDropNewestLinesWhenAskedTo() throws InterruptedException {
+        iterator = new QueueIterator<>(2, LogOverflow.DROP_NEWEST);
+        iterator.push("line 1");
+        iterator.push("line 2");
+        iterator.push("line 3");
+        iterator.end();
+        assertThat(iterator).containsExactly("line 1", "line 2");
+    }
+
     @Test
     public void shouldInterruptIfThreadIsInterrupted() {
         Thread.currentThread().interrupt();
@@ -99,16 +133,55 @@ public class QueueIteratorTest {
                 .isDownBefore(100, MILLISECONDS);
         }
 
+        @Test
+        void shouldStopAsSoonAsEnded() throws InterruptedException {
+            CountDownLatch hasNextReturned = new CountDownLatch(1);
+            executor.submit(() -> {
+                iterator.hasNext();
+                hasNextReturned.countDown();
+            });
+            iterator.end();
+            assertThat(hasNextReturned)
+                .overridingErrorMessage("hasNext should have returned")
+                .isDownBefore(100, MILLISECONDS);
+        }
+
+        @Test
+        void shouldWaitForLinesWithoutPolling() throws InterruptedException {
+            Thread consumer = new Thread(iterator::hasNext);
+            consumer.start();
+            while (consumer.getState() == Thread.State.NEW || consumer.getState() == Thread.State.RUNNABLE) {
+                Thread.yield();
+            }
+            assertThat(consumer.getState()).isEqualTo(Thread.State.WAITING);
+            iterator.close();
+            consumer.join();
+        }
+
+        @Test
+        void shouldNotBlockPushOnceClosed() throws InterruptedException {
+            iterator.push("a line");
+            CountDownLatch pushReturned = new CountDownLatch(1);
+            executor.submit(assertNoInterruptionThrown(() -> {
+                iterator.push("a line 2");
+                pushReturned.countDown();
+            }));
+            iterator.close();
+            assertThat(pushReturned)
+                .overridingErrorMessage("push should have returned")
+                .isDownBefore(100, MILLISECONDS);
+        }
+
         @Test
         void shouldGiveFirstLineEvenAfterTwoCallToHasNext() {
             CountDownLatch firstLinePushed = new CountDownLatch(1);
             executor.submit(assertNoInterruptionThrown(() -> {
-                lines.put("a line");
+                iterator.push("a line");
                 firstLinePushed.countDown();
             }));
             executor.submit(assertNoInterruptionThrown(() -> {
                 firstLinePushed.await();
-                lines.put("a line 2");
+                iterator.push("a line 2");
             }));
             assertThat(iterator.hasNext()).isTrue();
             assertThat(iterator.hasNext()).isTrue();
@@ -0,0 +1,80 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+
+import static com.github.junit5docker.WaitFor.Match.ANY;
+import static com.github.junit5docker.WaitFor.Match.IN_ORDER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadinessConditionTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    void waitForNothingWithoutPatterns() {
+        assertThat(ReadinessCondition.compile(waitForOf(NothingTest.class)).waitsForNothing()).isTrue();
+    }
+
+    @Test
+    void searchLinesOnlyForRegularExpressions() {
+        assertThat(ReadinessCondition.compile(waitForOf(AllTest.class)).searchesLines()).isFalse();
+        assertThat(ReadinessCondition.compile(waitForOf(RegexTest.class)).searchesLines()).isTrue();
+    }
+
+    @Test
+    void describeASinglePatternAsItIs() {
+        assertThat(ReadinessCondition.compile(waitForOf(SingleTest.class)).describe()).isEqualTo("\"started\"");
+    }
+
+    @Test
+    void describeHowPatternsAreCombined() {
+        assertThat(ReadinessCondition.compile(waitForOf(InOrderTest.class)).describe())
+            .isEqualTo("in order \"ready\", \"ready\", \"listening\"");
+        assertThat(ReadinessCondition.compile(waitForOf(AnyTest.class)).describe())
+            .isEqualTo("any of \"ready\", \"listening\" 2 times");
+    }
+
+    @Test
+    void refuseOccurrencesLowerThanOne() {
+        assertThatThrownBy(() -> new ReadinessCondition(waitForOf(NoOccurrenceTest.class), UTF_8))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static WaitFor waitForOf(Class<?> testClass) {
+        return testClass.getAnnotation(Docker.class).waitFor();
+    }
+
+    @Docker(image = "wantedImage", ports = {})
+    static class NothingTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor("started"))
+    static class SingleTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor(value = "ready", additionalValues = "listening"))
+    static class AllTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor(value = "ready", additionalValues = "listening",
+        match = ANY, occurrences = 2))
+    static class AnyTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor(value = "ready",
+        additionalValues = {"ready", "listening"}, match = IN_ORDER))
+    static class InOrderTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor(value = "port \\d+", additionalValues = "ready",
+        regex = true))
+    static class RegexTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor(value = "started", occurrences = 0))
+    static class NoOccurrenceTest {
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.ReadinessConditionTest.AllTest;
+import org.junit.jupiter.api.Test;
+
+import static com.github.junit5docker.ReadinessConditionTest.waitForOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadinessConditionsTest {
+
+    @Test
+    void compileConditionOncePerAnnotation() {
+        ReadinessConditions conditions = new ReadinessConditions();
+        assertThat(conditions.compile(waitForOf(AllTest.class)))
+            .isSameAs(conditions.compile(waitForOf(AllTest.class)));
+    }
+
+    @Test
+    void compileConditionsAgainInAnotherSession() {
+        assertThat(new ReadinessConditions().compile(waitForOf(AllTest.class)))
+            .isNotSameAs(new ReadinessConditions().compile(waitForOf(AllTest.class)));
+    }
+}
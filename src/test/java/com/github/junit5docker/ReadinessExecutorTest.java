@@ -0,0 +1,82 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static com.github.junit5docker.assertions.CountDownLatchAssertions.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadinessExecutorTest {
+
+    private static final int CHECK_DELAY_IN_MILLIS = 200;
+
+    @Test
+    void useVirtualThreadsOnlyWhenTheRuntimeHasThem() {
+        boolean runtimeHasVirtualThreads = hasVirtualThreads();
+        assertThat(ReadinessExecutor.virtualThreadExecutor().isPresent()).isEqualTo(runtimeHasVirtualThreads);
+    }
+
+    @Test
+    void useTheExecutorOfTheFactoryWhenItExists() {
+        Optional<ExecutorService> executor = ReadinessExecutor.executorFrom("newCachedThreadPool");
+        assertThat(executor).isPresent();
+        executor.ifPresent(ExecutorService::shutdownNow);
+    }
+
+    @Test
+    void useNoExecutorWhenTheFactoryDoesNotExist() {
+        assertThat(ReadinessExecutor.executorFrom("newUnknownExecutor")).isEmpty();
+    }
+
+    @Test
+    void neverRunMoreChecksAtOnceThanThreads() {
+        ExecutorService executor = ReadinessExecutor.platformThreadExecutor(1);
+        CountDownLatch firstCheckAllowedToEnd = new CountDownLatch(1);
+        CountDownLatch secondCheckStarted = new CountDownLatch(1);
+        try {
+            executor.submit(() -> {
+                firstCheckAllowedToEnd.await();
+                return null;
+            });
+            executor.submit(secondCheckStarted::countDown);
+            assertThat(secondCheckStarted)
+                .overridingErrorMessage("Second check should wait for the only thread")
+                .isUpAfter(CHECK_DELAY_IN_MILLIS, MILLISECONDS);
+            firstCheckAllowedToEnd.countDown();
+            assertThat(secondCheckStarted).isDownBefore(CHECK_DELAY_IN_MILLIS, MILLISECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void runChecksOnNamedDaemonThreads() throws InterruptedException, ExecutionException {
+        ExecutorService executor = ReadinessExecutor.platformThreadExecutor(1);
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get();
+            assertThat(thread.getName()).isEqualTo(ReadinessExecutor.THREAD_NAME);
+            assertThat(thread.isDaemon()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shareOneExecutorForTheWholeSession() {
+        assertThat(ReadinessExecutor.shared()).isSameAs(ReadinessExecutor.shared());
+    }
+
+    private static boolean hasVirtualThreads() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.junit5docker;
+
+import com.github.junit5docker.ReadinessConditionTest.AllTest;
+import com.github.junit5docker.ReadinessConditionTest.AnyTest;
+import com.github.junit5docker.ReadinessConditionTest.InOrderTest;
+import com.github.junit5docker.ReadinessConditionTest.RegexTest;
+import com.github.junit5docker.ReadinessConditionTest.SingleTest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import static com.github.junit5docker.ReadinessConditionTest.waitForOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadinessProgressTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    void findPatternInPayload() {
+        ReadinessProgress progress = progressOf(SingleTest.class, 1);
+        assertThat(progress.foundIn(bytes("server starting"))).isFalse();
+        assertThat(progress.foundIn(bytes("server started on port 8080"))).isTrue();
+    }
+
+    @Test
+    void findPatternSplitBetweenPayloads() {
+        ReadinessProgress progress = progressOf(SingleTest.class, 1);
+        assertThat(progress.foundIn(bytes("server sta"))).isFalse();
+        assertThat(progress.foundIn(bytes("rted"))).isTrue();
+    }
+
+    @Test
+    void findPatternSplitInTheMiddleOfACharacter() {
+        ReadinessProgress progress = new ReadinessCondition(waitForOf(AccentTest.class), UTF_8).newProgress(1);
+        byte[] payload = bytes("accent é");
+        assertThat(progress.foundIn(Arrays.copyOfRange(payload, 0, payload.length - 1))).isFalse();
+        assertThat(progress.foundIn(Arrays.copyOfRange(payload, payload.length - 1, payload.length))).isTrue();
+    }
+
+    @Test
+    void waitForEveryPatternByDefault() {
+        ReadinessProgress progress = progressOf(AllTest.class, 1);
+        assertThat(progress.foundIn(bytes("listening\n"))).isFalse();
+        assertThat(progress.foundIn(bytes("ready\n"))).isTrue();
+    }
+
+    @Test
+    void waitForAnyPatternOccurringEnough() {
+        ReadinessProgress progress = progressOf(AnyTest.class, 1);
+        assertThat(progress.foundIn(bytes("ready\nlistening\n"))).isFalse();
+        assertThat(progress.foundIn(bytes("listening\n"))).isTrue();
+    }
+
+    @Test
+    void waitForPatternsInOrder() {
+        ReadinessProgress progress = progressOf(InOrderTest.class, 1);
+        assertThat(progress.foundIn(bytes("listening\nready\nlistening\n"))).isFalse();
+        assertThat(progress.foundIn(bytes("ready\n"))).isFalse();
+        assertThat(progress.foundIn(bytes("listening\n"))).isTrue();
+    }
+
+    @Test
+    void waitForEveryRound() {
+        ReadinessProgress progress = progressOf(InOrderTest.class, 2);
+        assertThat(progress.foundIn(bytes("ready\nready\nlistening\n"))).isFalse();
+        assertThat(progress.foundIn(bytes("ready\nready\nlistening\n"))).isTrue();
+    }
+
+    @Test
+    void findRegularExpressionsInLines() {
+        ReadinessProgress progress = progressOf(RegexTest.class, 1);
+        assertThat(progress.foundIn("listening on port 8080")).isFalse();
+        assertThat(progress.foundIn("ready")).isTrue();
+    }
+
+    @Test
+    void countOverlappingOccurrences() {
+        ReadinessProgress progress = progressOf(RepeatedTest.class, 1);
+        assertThat(progress.foundIn(bytes("aaa"))).isTrue();
+    }
+
+    private static ReadinessProgress progressOf(Class<?> testClass, int rounds) {
+        return ReadinessCondition.compile(waitForOf(testClass)).newProgress(rounds);
+    }
+
+    private static byte[] bytes(String log) {
+        return log.getBytes(UTF_8);
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor("é"))
+    private static class AccentTest {
+    }
+
+    @Docker(image = "wantedImage", ports = {}, waitFor = @WaitFor(value = "aa", occurrences = 2))
+    private static class RepeatedTest {
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecycledContainersTest {
+
+    private final RecycledContainers recycledContainers = new RecycledContainers();
+
+    @Test
+    void reuseNothingWhenNoContainerWasRecycled() {
+        assertThat(recycledContainers.reuse()).isNull();
+    }
+
+    @Test
+    void reuseRecycledContainersInOrder() {
+        recycledContainers.recycle("FIRST", 1);
+        recycledContainers.recycle("SECOND", 2);
+        RestartedContainer first = recycledContainers.reuse();
+        RestartedContainer second = recycledContainers.reuse();
+        assertThat(first.getContainerId()).isEqualTo("FIRST");
+        assertThat(first.getRestarts()).isEqualTo(1);
+        assertThat(second.getContainerId()).isEqualTo("SECOND");
+        assertThat(recycledContainers.reuse()).isNull();
+    }
+
+    @Test
+    void removeAllRecycledContainers() {
+        List<String> removedContainers = new ArrayList<>();
+        recycledContainers.recycle("FIRST", 1);
+        recycledContainers.recycle("SECOND", 1);
+        recycledContainers.removeAll(removedContainers::add);
+        assertThat(removedContainers).containsExactly("FIRST", "SECOND");
+        assertThat(recycledContainers.reuse()).isNull();
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferTest {
+
+    private final RingBuffer<String> buffer = new RingBuffer<>(2);
+
+    private final List<String> batch = new ArrayList<>();
+
+    @Test
+    void beEmptyWhenCreated() {
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.isFull()).isFalse();
+    }
+
+    @Test
+    void beFullOnceCapacityIsReached() {
+        buffer.add("line 1");
+        buffer.add("line 2");
+        assertThat(buffer.isFull()).isTrue();
+        assertThatThrownBy(() -> buffer.add("line 3")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void drainLinesInOrder() {
+        buffer.add("line 1");
+        buffer.add("line 2");
+        buffer.drainTo(batch);
+        assertThat(batch).containsExactly("line 1", "line 2");
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void wrapAroundItsEnd() {
+        buffer.add("line 1");
+        buffer.add("line 2");
+        buffer.dropOldest();
+        buffer.add("line 3");
+        buffer.drainTo(batch);
+        assertThat(batch).containsExactly("line 2", "line 3");
+    }
+
+    @Test
+    void ignoreDropWhenEmpty() {
+        buffer.dropOldest();
+        buffer.add("line 1");
+        buffer.drainTo(batch);
+        assertThat(batch).containsExactly("line 1");
+    }
+
+    @Test
+    void refuseCapacityLowerThanOne() {
+        assertThatThrownBy(() -> new RingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
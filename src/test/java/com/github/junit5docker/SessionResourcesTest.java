@@ -0,0 +1,66 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionResourcesTest {
+
+    private final List<Thread> shutdownHooks = new ArrayList<>();
+
+    private final SessionResources sessionResources = new SessionResources(shutdownHooks::add);
+
+    @Test
+    void shouldRegisterASingleShutdownHookOnFirstResource() {
+        assertThat(shutdownHooks).isEmpty();
+        sessionResources.onClose(() -> { });
+        sessionResources.onClose(() -> { });
+        assertThat(shutdownHooks).hasSize(1);
+    }
+
+    @Test
+    void shouldCloseResourcesWhenTheShutdownHookRuns() {
+        List<String> closed = new ArrayList<>();
+        sessionResources.onClose(() -> closed.add("resource"));
+        shutdownHooks.get(0).run();
+        assertThat(closed).containsExactly("resource");
+    }
+
+    @Test
+    void shouldCloseResourcesInReverseOrder() {
+        List<String> closed = new ArrayList<>();
+        sessionResources.onClose(() -> closed.add("first"));
+        sessionResources.onClose(() -> closed.add("second"));
+        sessionResources.close();
+        assertThat(closed).containsExactly("second", "first");
+    }
+
+    @Test
+    void shouldCloseResourcesOnlyOnce() {
+        List<String> closed = new ArrayList<>();
+        sessionResources.onClose(() -> closed.add("resource"));
+        sessionResources.close();
+        sessionResources.close();
+        assertThat(closed).containsExactly("resource");
+    }
+
+    @Test
+    void shouldCloseEveryResourceEvenIfOneFails() {
+        List<String> closed = new ArrayList<>();
+        sessionResources.onClose(() -> closed.add("first"));
+        sessionResources.onClose(() -> {
+            throw new IllegalStateException("cannot close");
+        });
+        assertThatThrownBy(sessionResources::close).hasMessage("cannot close");
+        assertThat(closed).containsExactly("first");
+    }
+
+    @Test
+    void shouldBeUniqueForTheWholeSession() {
+        assertThat(SessionResources.session()).isSameAs(SessionResources.session());
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.github.junit5docker.assertions.CountDownLatchAssertions.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class StandbyContainersTest {
+
+    private static final int CONCURRENT_TAKES = 8;
+
+    private final AtomicInteger startedContainers = new AtomicInteger();
+
+    private final List<String> stoppedContainers = new CopyOnWriteArrayList<>();
+
+    private StandbyContainers standbyContainers;
+
+    @AfterEach
+    void closeStandbyContainers() {
+        standbyContainers.close();
+    }
+
+    @Test
+    void shouldStartTheReserveImmediately() {
+        CountDownLatch reserveStarted = new CountDownLatch(2);
+        standbyContainers = new StandbyContainers(2, () -> {
+            reserveStarted.countDown();
+            return "CONTAINER_" + startedContainers.incrementAndGet();
+        }, stoppedContainers::add);
+        assertThat(reserveStarted)
+            .overridingErrorMessage("Standby containers should be started without waiting for a test")
+            .isDownBefore(500, MILLISECONDS);
+    }
+
+    @Test
+    void shouldGiveContainersInStartingOrder() {
+        standbyContainers = new StandbyContainers(1, numberedContainers(), stoppedContainers::add);
+        assertThat(standbyContainers.take()).isEqualTo("CONTAINER_1");
+        assertThat(standbyContainers.take()).isEqualTo("CONTAINER_2");
+    }
+
+    @Test
+    void shouldRefillTheReserveWhenAContainerIsTaken() {
+        standbyContainers = new StandbyContainers(2, numberedContainers(), stoppedContainers::add);
+        String takenContainer = standbyContainers.take();
+        standbyContainers.close();
+        assertThat(startedContainers.get()).isEqualTo(3);
+        assertThat(stoppedContainers).hasSize(2).doesNotContain(takenContainer);
+    }
+
+    @Test
+    void shouldGiveAContainerToEveryConcurrentTake() throws Exception {
+        standbyContainers = new StandbyContainers(1, numberedContainers(), stoppedContainers::add);
+        ExecutorService tests = Executors.newFixedThreadPool(CONCURRENT_TAKES);
+        try {
+            List<Future<String>> takenContainers = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_TAKES; i++) {
+                takenContainers.add(tests.submit(standbyContainers::take));
+            }
+            Set<String> distinctContainers = new HashSet<>();
+            for (Future<String> takenContainer : takenContainers) {
+                distinctContainers.add(takenContainer.get());
+            }
+            assertThat(distinctContainers).hasSize(CONCURRENT_TAKES).doesNotContainNull();
+        } finally {
+            tests.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotStopTakenContainersWhenClosed() {
+        standbyContainers = new StandbyContainers(1, numberedContainers(), stoppedContainers::add);
+        String takenContainer = standbyContainers.take();
+        standbyContainers.close();
+        assertThat(stoppedContainers).doesNotContain(takenContainer);
+    }
+
+    @Test
+    void shouldGiveTheFailureOfTheStartToTheTest() {
+        standbyContainers = new StandbyContainers(1, () -> {
+            throw new AssertionError("Timeout while waiting for log");
+        }, stoppedContainers::add);
+        assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(standbyContainers::take)
+            .withMessageContaining("Timeout");
+    }
+
+    @Test
+    void shouldGiveTheRuntimeFailureOfTheStartToTheTest() {
+        standbyContainers = new StandbyContainers(1, () -> {
+            throw new IllegalStateException("No such image");
+        }, stoppedContainers::add);
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(standbyContainers::take)
+            .withMessageContaining("No such image");
+    }
+
+    @Test
+    void shouldIgnoreFailedContainersWhenClosed() {
+        standbyContainers = new StandbyContainers(1, () -> {
+            throw new IllegalStateException("No such image");
+        }, stoppedContainers::add);
+        standbyContainers.close();
+        assertThat(stoppedContainers).isEmpty();
+    }
+
+    private Supplier<String> numberedContainers() {
+        return () -> "CONTAINER_" + startedContainers.incrementAndGet();
+    }
+}
@@ -86,7 +86,7 @@ public class StreamLogTest {
     public void shouldGiveAStreamContainingLineOfFrameFromOtherThread()
         throws ExecutionException, InterruptedException {
         CountDownLatch streamStarted = new CountDownLatch(1);
-        executor.submit(() -> streamLog.onNext(new Frame(StreamType.RAW, "added line".getBytes(UTF_8))));
+        executor.submit(() -> streamLog.onNext(new Frame(StreamType.RAW, "added line\n".getBytes(UTF_8))));
         Future<?> streamCompleted = executor.submit(completeStreamOnceStarted(streamStarted));
         assertThat(streamLog.stream().peek((l) -> streamStarted.countDown())).contains("added line");
         assertExecutionOf(streamCompleted::get).hasNoAssertionFailures();
@@ -96,9 +96,9 @@ public class StreamLogTest {
     public void shouldReadLineAsUtf8() throws ExecutionException, InterruptedException {
         CountDownLatch streamFinished = new CountDownLatch(2);
         String originalString = "use of accents é";
-        byte[] utf8String = originalString.getBytes(UTF_8);
-        byte[] isoString = originalString.getBytes(ISO_8859_1);
-        String misinterpretedString = new String(isoString, UTF_8);
+        byte[] utf8String = (originalString + "\n").getBytes(UTF_8);
+        byte[] isoString = (originalString + "\n").getBytes(ISO_8859_1);
+        String misinterpretedString = new String(originalString.getBytes(ISO_8859_1), UTF_8);
         executor.submit(() -> streamLog.onNext(new Frame(StreamType.RAW, utf8String)));
         executor.submit(() -> streamLog.onNext(new Frame(StreamType.RAW, isoString)));
         Future<?> streamCompleted = executor.submit(completeStreamOnceStarted(streamFinished));
@@ -108,10 +108,27 @@ public class StreamLogTest {
         assertExecutionOf(streamCompleted::get).hasNoAssertionFailures();
     }
 
+    @Test
+    public void shouldGiveOneLinePerLineOfFramesWhateverTheirBoundaries() {
+        streamLog.onNext(new Frame(StreamType.RAW, "first li".getBytes(UTF_8)));
+        streamLog.onNext(new Frame(StreamType.RAW, "ne\nsecond line\nthird".getBytes(UTF_8)));
+        streamLog.onNext(new Frame(StreamType.RAW, " line".getBytes(UTF_8)));
+        streamLog.onComplete();
+        assertThat(streamLog.stream()).containsExactly("first line", "second line", "third line");
+    }
+
+    @Test
+    public void shouldReadLinesWithConfiguredCharset() {
+        StreamLog isoStreamLog = new StreamLog(StreamLog.DEFAULT_BUFFER_CAPACITY, LogOverflow.BLOCK, ISO_8859_1);
+        isoStreamLog.onNext(new Frame(StreamType.RAW, "use of accents é\n".getBytes(ISO_8859_1)));
+        isoStreamLog.onComplete();
+        assertThat(isoStreamLog.stream()).containsExactly("use of accents é");
+    }
+
     @Test
     public void shouldInterruptStreamWhenDockerThreadInterrupted() {
         Thread.currentThread().interrupt();
-        streamLog.onNext(new Frame(StreamType.RAW, "added line".getBytes(UTF_8)));
+        streamLog.onNext(new Frame(StreamType.RAW, "added line\n".getBytes(UTF_8)));
         assertThat(Thread.interrupted()).isTrue();
     }
 
@@ -0,0 +1,78 @@
+package com.github.junit5docker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedImagesTest {
+
+    private final VerifiedImages verifiedImages = new VerifiedImages();
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private final Consumer<String> countingVerification = image -> verifications.incrementAndGet();
+
+    @Test
+    void verifyAnImageOnlyOnce() {
+        verifiedImages.verify("wantedImage", countingVerification);
+        verifiedImages.verify("wantedImage", countingVerification);
+        assertThat(verifications.get()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyEachImage() {
+        verifiedImages.verify("firstImage", countingVerification);
+        verifiedImages.verify("secondImage", countingVerification);
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyAgainForgottenImages() {
+        verifiedImages.verify("wantedImage", countingVerification);
+        verifiedImages.forget("wantedImage");
+        verifiedImages.verify("wantedImage", countingVerification);
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyAgainWhenVerificationFailed() {
+        assertThatThrownBy(() -> verifiedImages.verify("wantedImage", image -> {
+            throw new IllegalStateException("No such image");
+        })).hasMessage("No such image");
+        verifiedImages.verify("wantedImage", countingVerification);
+        assertThat(verifications.get()).isEqualTo(1);
+    }
+
+    @Test
+    void waitForTheRunningVerificationOfTheSameImage() throws InterruptedException {
+        CountDownLatch verificationStarted = new CountDownLatch(1);
+        CountDownLatch verificationAllowed = new CountDownLatch(1);
+        CompletableFuture<Void> firstVerification = runAsync(() -> verifiedImages.verify("wantedImage", image -> {
+            verifications.incrementAndGet();
+            verificationStarted.countDown();
+            awaitQuietly(verificationAllowed);
+        }));
+        verificationStarted.await(500, MILLISECONDS);
+        CompletableFuture<Void> secondVerification = runAsync(
+            () -> verifiedImages.verify("wantedImage", countingVerification));
+        verificationAllowed.countDown();
+        CompletableFuture.allOf(firstVerification, secondVerification).join();
+        assertThat(verifications.get()).isEqualTo(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(500, MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
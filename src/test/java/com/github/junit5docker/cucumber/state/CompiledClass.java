@@ -2,6 +2,10 @@ package com.github.junit5docker.cucumber.state;
 
 import com.github.junit5docker.Docker;
 import com.github.junit5docker.WaitFor;
+import com.github.junit5docker.WaitForExec;
+import com.github.junit5docker.WaitForHealth;
+import com.github.junit5docker.WaitForHttp;
+import com.github.junit5docker.WaitForPorts;
 import com.github.junit5docker.fakes.FakeExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
@@ -34,6 +38,26 @@ public class CompiledClass {
             .collect(Collectors.toList());
     }
 
+    public WaitFor waitForAnnotation() {
+        return compiledClass.getAnnotation(Docker.class).waitFor();
+    }
+
+    public WaitForPorts waitForPortsAnnotation() {
+        return compiledClass.getAnnotation(Docker.class).waitForPorts();
+    }
+
+    public WaitForHttp waitForHttpAnnotation() {
+        return compiledClass.getAnnotation(Docker.class).waitForHttp();
+    }
+
+    public WaitForHealth waitForHealthAnnotation() {
+        return compiledClass.getAnnotation(Docker.class).waitForHealth();
+    }
+
+    public WaitForExec waitForExecAnnotation() {
+        return compiledClass.getAnnotation(Docker.class).waitForExec();
+    }
+
     public ExtensionContext getExtensionContext() {
         return new FakeExtensionContext(compiledClass);
     }
@@ -7,6 +7,7 @@ import com.github.dockerjava.api.model.Frame;
 import com.github.dockerjava.core.DockerClientBuilder;
 import com.github.dockerjava.core.command.LogContainerResultCallback;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,6 +31,8 @@ public class Containers {
 
     private List<Container> remainingContainersPerTest;
 
+    private List<Container> runningContainersPerTest;
+
     private List<InspectContainerResponse> containersInspect;
 
     private List<InspectContainerResponse> containersInspectPerTest;
@@ -39,7 +42,7 @@ public class Containers {
     private List<LogCallback> logsPerTest;
 
     public Containers() {
-        existingContainers = dockerClient.listContainersCmd().exec();
+        existingContainers = new ArrayList<>(dockerClient.listContainersCmd().exec());
     }
 
     private List<Container> getContainers() {
@@ -62,7 +65,8 @@ public class Containers {
     }
 
     public void updateStartedForTest() {
-        containersStartedByExtensionPerTest = getContainers().stream()
+        runningContainersPerTest = getContainers();
+        containersStartedByExtensionPerTest = runningContainersPerTest.stream()
             .filter(c -> !containersStartedByExtension.contains(c))
             .collect(Collectors.toList());
         containersInspectPerTest = containersStartedByExtensionPerTest.stream()
@@ -84,6 +88,11 @@ public class Containers {
         remainingContainersPerTest = getContainers();
     }
 
+    public void keepUntilSessionEnd(List<Container> sharedContainers) {
+        existingContainers.addAll(sharedContainers);
+        remainingContainers.removeAll(sharedContainers);
+    }
+
     public void verifyAllClean() {
         if (remainingContainers == null) updateRemainings();
         remainingContainers
@@ -109,6 +118,10 @@ public class Containers {
         return containersStartedByExtensionPerTest.stream().map(Container::getImage);
     }
 
+    public Stream<String> runningImageNamesPerTest() {
+        return runningContainersPerTest.stream().map(Container::getImage);
+    }
+
     public Stream<String> environment() {
         return Stream.concat(containersInspect.stream(), containersInspectPerTest.stream())
             .map((c) -> c.getConfig().getEnv()).flatMap(Stream::of);
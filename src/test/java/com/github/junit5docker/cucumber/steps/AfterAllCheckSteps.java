@@ -19,4 +19,10 @@ public class AfterAllCheckSteps {
         assertThat(containers.remaining()).isEmpty();
     }
 
+    @When("^the container is kept running after your tests and stopped at the end of the test session$")
+    public void keptForTheSession() {
+        assertThat(containers.remaining()).hasSize(1);
+        containers.keepUntilSessionEnd(containers.remaining());
+    }
+
 }
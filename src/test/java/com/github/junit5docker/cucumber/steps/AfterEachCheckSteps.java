@@ -14,7 +14,7 @@ public class AfterEachCheckSteps {
         this.containers = containers;
     }
 
-    @When("^this container is stopped and removed after usage$")
+    @When("^this container is (?:stopped|killed) and removed after usage$")
     public void checkedAndRemoved() {
         assertThat(containers.remainingForTest()).isEmpty();
     }
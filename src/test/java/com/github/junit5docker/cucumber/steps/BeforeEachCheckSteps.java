@@ -1,10 +1,14 @@
 package com.github.junit5docker.cucumber.steps;
 
 import com.github.dockerjava.api.model.Container;
+import com.github.junit5docker.WaitFor;
 import com.github.junit5docker.cucumber.state.CompiledClass;
 import com.github.junit5docker.cucumber.state.Containers;
 import cucumber.api.java.en.When;
 
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class BeforeEachCheckSteps {
@@ -31,11 +35,24 @@ public class BeforeEachCheckSteps {
             .orElseThrow(IllegalStateException::new);
     }
 
+    @When("^each test takes a ready container `([^`]*)` using the version `([^`]*)` from the reserve$")
+    public void standbyStep(String imageName, String version) {
+        assertThat(containers.runningImageNamesPerTest()).contains(imageName + ":" + version);
+    }
+
     @When("^the port `(\\d+)` is bound to the container's port `(\\d+)` so you can exchange through this port$")
     public void portStep(Integer outerPort, Integer innerPort) {
         assertThat(containers.portMapping()).contains(new Integer[]{outerPort, innerPort});
     }
 
+    @When("^the port `(\\d+)` of the container is bound to a free port of the host which is given to your tests$")
+    public void mappedPortStep(Integer innerPort) {
+        assertThat(containers.portMapping()
+            .anyMatch(ports -> innerPort.equals(ports[1]) && ports[0] > 0))
+            .describedAs("Port %d should be bound to a free port of the host", innerPort)
+            .isTrue();
+    }
+
     @When("^the container is started with the given environment variables$")
     public void environmentStep() {
         assertThat(containers.environment()).contains(compiledClass.environmentAnnotations());
@@ -52,4 +69,64 @@ public class BeforeEachCheckSteps {
             .isTrue();
     }
 
+    @When("^the tests are started only after a line matching `([^`]*)` then a line matching `([^`]*)` are found in "
+        + "the container's logs$")
+    public void waitForLinesInOrderStep(String firstRegex, String secondRegex) {
+        WaitFor waitFor = compiledClass.waitForAnnotation();
+        assertThat(waitFor.regex()).describedAs("Java code and expectation mismatch on regular expressions").isTrue();
+        assertThat(waitFor.match()).describedAs("Java code and expectation mismatch on order")
+            .isEqualTo(WaitFor.Match.IN_ORDER);
+        assertThat(Stream.concat(Stream.of(waitFor.value()), Stream.of(waitFor.additionalValues())))
+            .describedAs("Java code and expectation mismatch on waited lines")
+            .containsExactly(firstRegex, secondRegex);
+        assertThat(containers.logs().anyMatch(logs -> hasLinesInOrder(logs, firstRegex, secondRegex)))
+            .describedAs("Logs should have a line matching \"%s\" then one matching \"%s\"", firstRegex, secondRegex)
+            .isTrue();
+    }
+
+    private static boolean hasLinesInOrder(String logs, String firstRegex, String secondRegex) {
+        Pattern first = Pattern.compile(firstRegex);
+        Pattern second = Pattern.compile(secondRegex);
+        return Stream.of(logs.split("\n"))
+            .filter(line -> first.matcher(line).find())
+            .findFirst()
+            .map(line -> logs.substring(logs.indexOf(line) + line.length()))
+            .filter(afterFirst -> Stream.of(afterFirst.split("\n")).anyMatch(line -> second.matcher(line).find()))
+            .isPresent();
+    }
+
+    @When("^the tests are started only after the port `(\\d+)` accepts connections$")
+    public void waitForPortsStep(Integer outerPort) {
+        assertThat(compiledClass.waitForPortsAnnotation().value())
+            .describedAs("Java code and expectation mismatch on waited ports")
+            .isTrue();
+        assertThat(containers.portMapping().anyMatch(ports -> outerPort.equals(ports[0])))
+            .describedAs("Port %d should be bound", outerPort)
+            .isTrue();
+    }
+
+    @When("^the tests are started only after `([^`]*)` answers on the port `(\\d+)`$")
+    public void waitForHttpStep(String path, Integer outerPort) {
+        assertThat(compiledClass.waitForHttpAnnotation().value())
+            .describedAs("Java code and expectation mismatch on requested path")
+            .isEqualTo(path);
+        assertThat(containers.portMapping().anyMatch(ports -> outerPort.equals(ports[0])))
+            .describedAs("Port %d should be bound", outerPort)
+            .isTrue();
+    }
+
+    @When("^the tests are started only after the container is reported healthy$")
+    public void waitForHealthStep() {
+        assertThat(compiledClass.waitForHealthAnnotation().value())
+            .describedAs("Java code and expectation mismatch on waited health")
+            .isTrue();
+    }
+
+    @When("^the tests are started only after `([^`]*)` succeeds in the container$")
+    public void waitForExecStep(String command) {
+        assertThat(String.join(" ", compiledClass.waitForExecAnnotation().value()))
+            .describedAs("Java code and expectation mismatch on run command")
+            .isEqualTo(command);
+    }
+
 }
@@ -4,25 +4,39 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class FakeExtensionContext implements ExtensionContext {
     private final Class<?> testSampleClass;
 
+    private final ExtensionContext parent;
+
+    private final Map<Namespace, Store> stores = new ConcurrentHashMap<>();
+
+    private final List<Map<String, String>> reportEntries = new CopyOnWriteArrayList<>();
+
     public FakeExtensionContext(Class<?> testSampleClass) {
+        this(testSampleClass, null);
+    }
+
+    public FakeExtensionContext(Class<?> testSampleClass, ExtensionContext parent) {
         this.testSampleClass = testSampleClass;
+        this.parent = parent;
     }
 
     @Override
     public Optional<ExtensionContext> getParent() {
-        return null;
+        return Optional.ofNullable(parent);
     }
 
     @Override
     public ExtensionContext getRoot() {
-        return null;
+        return parent == null ? this : parent.getRoot();
     }
 
     @Override
@@ -67,10 +81,16 @@ public class FakeExtensionContext implements ExtensionContext {
 
     @Override
     public void publishReportEntry(Map<String, String> map) {
+        reportEntries.add(map);
+    }
+
+    public List<Map<String, String>> getReportEntries() {
+        return reportEntries;
     }
 
     @Override
     public Store getStore(Namespace namespace) {
-        return null;
+        return stores.computeIfAbsent(namespace,
+            key -> new FakeStore(parent == null ? null : parent.getStore(namespace)));
     }
 }
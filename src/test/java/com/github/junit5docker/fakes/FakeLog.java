@@ -1,5 +1,6 @@
 package com.github.junit5docker.fakes;
 
+import java.nio.charset.Charset;
 import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
@@ -7,7 +8,11 @@ import java.util.stream.Stream;
 import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.StreamSupport.stream;
 
-public final class FakeLog implements Iterator<String> {
+public final class FakeLog implements Iterator<byte[]> {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final byte[] NO_LOG = new byte[0];
 
     private final AtomicBoolean started;
 
@@ -21,11 +26,11 @@ public final class FakeLog implements Iterator<String> {
         this.waitedLog = waitedLog;
     }
 
-    public static Stream<String> unfoundableLog() {
+    public static Stream<byte[]> unfoundableLog() {
         return fakeLog(new AtomicBoolean(false), "");
     }
 
-    public static Stream<String> fakeLog(AtomicBoolean started, String waitedLog) {
+    public static Stream<byte[]> fakeLog(AtomicBoolean started, String waitedLog) {
         return stream(spliteratorUnknownSize(new FakeLog(started, waitedLog), 0), false);
     }
 
@@ -35,11 +40,11 @@ public final class FakeLog implements Iterator<String> {
     }
 
     @Override
-    public String next() {
+    public byte[] next() {
         if (started.get()) {
             hasNext = false;
-            return "19/11/2016 : " + waitedLog;
+            return ("19/11/2016 : " + waitedLog + "\n").getBytes(UTF_8);
         }
-        return "";
+        return NO_LOG;
     }
 }
@@ -0,0 +1,30 @@
+package com.github.junit5docker.fakes;
+
+import org.junit.jupiter.api.extension.ParameterContext;
+
+import java.lang.reflect.Parameter;
+import java.util.Optional;
+
+public class FakeParameterContext implements ParameterContext {
+
+    private final Parameter parameter;
+
+    public FakeParameterContext(Parameter parameter) {
+        this.parameter = parameter;
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return parameter;
+    }
+
+    @Override
+    public int getIndex() {
+        return 0;
+    }
+
+    @Override
+    public Optional<Object> getTarget() {
+        return Optional.empty();
+    }
+}
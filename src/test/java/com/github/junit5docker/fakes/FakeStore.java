@@ -0,0 +1,59 @@
+package com.github.junit5docker.fakes;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class FakeStore implements ExtensionContext.Store {
+
+    private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+    private final ExtensionContext.Store parent;
+
+    public FakeStore(ExtensionContext.Store parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = values.get(key);
+        if (value == null && parent != null) return parent.get(key);
+        return value;
+    }
+
+    @Override
+    public <V> V get(Object key, Class<V> requiredType) {
+        return requiredType.cast(get(key));
+    }
+
+    @Override
+    public <K, V> Object getOrComputeIfAbsent(K key, Function<K, V> defaultCreator) {
+        return values.computeIfAbsent(key, k -> defaultCreator.apply(key));
+    }
+
+    @Override
+    public <K, V> V getOrComputeIfAbsent(K key, Function<K, V> defaultCreator, Class<V> requiredType) {
+        return requiredType.cast(getOrComputeIfAbsent(key, defaultCreator));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            values.remove(key);
+        } else {
+            values.put(key, value);
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return values.remove(key);
+    }
+
+    @Override
+    public <V> V remove(Object key, Class<V> requiredType) {
+        return requiredType.cast(values.remove(key));
+    }
+}
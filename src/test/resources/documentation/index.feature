@@ -47,6 +47,12 @@ Feature: JUnit5 Docker
 
   By default, you are guaranteed that a new container is created for each tests.
 
+  The logs of the containers are read through a bounded buffer and decoded into lines. Both can be tuned with system properties given to the JVM running the tests, for instance in the `systemPropertyVariables` of the maven surefire plugin :
+
+  - `junit5docker.logs.bufferCapacity` : the number of log lines kept until the wait reads them. It must be at least 1 and is 256 by default.
+  - `junit5docker.logs.overflow` : what to do with a new line when the buffer is full. `BLOCK`, the default, holds docker back until the buffered lines are read, so no line is lost. `DROP_OLDEST` and `DROP_NEWEST` never slow docker down but drop a line, which may be the one you wait for.
+  - `junit5docker.logs.charset` : the charset of the logs, `UTF-8` by default. Lines end with `\n`, a trailing `\r` is dropped and a line split across several docker frames is joined back. Bytes invalid in this charset become the replacement character `U+FFFD` instead of failing the wait. The regular expressions of `@WaitFor` are searched in these lines while its plain texts, encoded with the same charset, are searched in the raw logs.
+
   Scenario: Simple Example
 
     Given that you have a test like :
@@ -107,6 +113,34 @@ public class MyAwesomeTest {
     * the container is started with the given environment variables
     * the tests are started only after the string `mysqld: ready for connections` is found in the container's logs
 
+  Scenario: Wait for several logs, in order or as regular expressions
+
+  More texts can be waited for with `additionalValues`. By default the tests are started once all of them are found, in any order. With `match = WaitFor.Match.IN_ORDER`, each one must be found after the previous one and with `match = WaitFor.Match.ANY`, the first one found is enough.
+
+  With `regex = true`, the texts are regular expressions that are searched in every line of the container's logs.
+
+    Given that you have a test like :
+
+"""
+@Docker(image = "faustxvi/with-healthcheck", ports = @Port(exposed = 8801, inner = 8080),
+        waitFor = @WaitFor(value = "starting", additionalValues = "listening on port \\d+",
+                           match = WaitFor.Match.IN_ORDER, regex = true))
+public class MyAwesomeTest {
+
+    @Test
+    void checkMyCode() {
+        // Add your test content here
+    }
+
+}
+"""
+
+    When you run your tests :
+
+    * a new container `faustxvi/with-healthcheck` is started before running each tests using the version `latest`
+    * the tests are started only after a line matching `starting` then a line matching `listening on port \d+` are found in the container's logs
+    * this container is stopped and removed after usage
+
   Scenario: Keep the container for all tests of a class
 
   The container is started once for the whole class and before any test method is called; and stopped afterward.
@@ -137,4 +171,240 @@ public class MyAwesomeTest {
     When you run your tests :
 
     * the container `faustxvi/simple-two-ports` is started before running your tests using the version `latest`
-    * the container is stopped and removed after your tests
\ No newline at end of file
+    * the container is stopped and removed after your tests
+
+  Scenario: Share a container between test classes
+
+  A container kept for all tests of a class can also be shared with the other test classes declaring the same image, environment variables and ports.
+
+  The first of these classes starts the container and the next ones reuse it, waiting for their own log if any. The container is stopped and removed once all the tests have been run.
+
+  Be aware that the state of a shared container is kept between test classes.
+
+    Given that you have a test like :
+
+"""
+@Docker(image = "faustxvi/simple-two-ports", ports = @Port(exposed = 8801, inner = 8080), newForEachCase = false,
+        sharedBetweenClasses = true)
+public class MyAwesomeTest {
+
+    @Test
+    void checkMyCode() {
+        // Add your test content here
+    }
+
+}
+"""
+
+    When you run your tests :
+
+    * the container `faustxvi/simple-two-ports` is started before running your tests using the version `latest`
+    * the container is kept running after your tests and stopped at the end of the test session
+
+  Scenario: Keep ready containers in reserve
+
+  Starting a new container for each test, and waiting for it, can take most of the time of your tests.
+
+  Standby containers are started, and waited for, in background before the tests need them. Each test takes one of these ready containers and another one is started in background to replace it.
+
+  Be aware that the standby containers still in reserve when all the tests of the class are finished are started for nothing.
+
+  Since the containers in reserve run alongside the one used by the test, let docker choose their host ports and get them with `@MappedPort`.
+
+    Given that you have a test like :
+
+"""
+@Docker(image = "faustxvi/simple-two-ports", ports = @Port(exposed = Port.ANY_FREE_PORT, inner = 8080),
+        standbyContainers = 1)
+public class MyAwesomeTest {
+
+    @Test
+    void checkMyCode(@MappedPort(8080) int port) {
+        // Add your test content here
+    }
+
+    @Test
+    void checkMyCodeWithAnotherContainer(@MappedPort(8080) int port) {
+        // Add your test content here
+    }
+
+}
+"""
+
+    When you run your tests :
+
+    * each test takes a ready container `faustxvi/simple-two-ports` using the version `latest` from the reserve
+    * the container is stopped and removed after your tests
+
+  Scenario: Choose how containers are torn down
+
+  By default, containers are stopped, giving them a chance to exit gracefully, then removed.
+
+  Containers without any state to save can be killed instead, which is faster. They can also be removed in background while the next tests are running, or restarted and given to the next test instead of being replaced.
+
+    Given that you have a test like :
+
+"""
+@Docker(image = "faustxvi/simple-two-ports", ports = @Port(exposed = 8801, inner = 8080),
+        teardown = @Teardown(strategy = Teardown.Strategy.KILL))
+public class MyAwesomeTest {
+
+    @Test
+    void checkMyCode() {
+        // Add your test content here
+    }
+
+    @Test
+    void checkMyCodeWithAnotherContainer() {
+        // Add your test content here
+    }
+
+}
+"""
+
+    When you run your tests :
+
+    * a new container `faustxvi/simple-two-ports` is started before running each tests using the version `latest`
+    * this container is killed and removed after usage
+
+  Scenario: Let docker choose the host port
+
+  Binding a fixed port of the host fails when the port is already used, for instance by another build running on the same machine.
+
+  Docker can bind any free port of the host instead; the test methods get it through a parameter annotated with `@MappedPort`.
+
+    Given that you have a test like :
+
+"""
+@Docker(image = "faustxvi/simple-two-ports", ports = @Port(exposed = Port.ANY_FREE_PORT, inner = 8080))
+public class MyAwesomeTest {
+
+    @Test
+    void checkMyCode(@MappedPort(8080) int port) throws Exception {
+        try (java.net.Socket socket = new java.net.Socket("localhost", port)) {
+            // Add your test content here
+        }
+    }
+
+}
+"""
+
+    When you run your tests :
+
+    * a new container `faustxvi/simple-two-ports` is started before running each tests using the version `latest`
+    * the port `8080` of the container is bound to a free port of the host which is given to your tests
+    * this container is stopped and removed after usage
+
+  Scenario: Wait for the ports to accept connections
+
+  Some images do not log anything reliable once they are ready.
+
+  The tests can instead wait for every declared port to accept connections on the host side.
+
+    Given that you have a test like :
+
+"""
+@Docker(image = "faustxvi/open-port-later", ports = @Port(exposed = 8801, inner = 8080),
+        environments = @Environment(key = "WAITING_TIME", value = "1s"),
+        waitForPorts = @WaitForPorts)
+public class MyAwesomeTest {
+
+    @Test
+    void checkMyCode() throws Exception {
+        try (java.net.Socket socket = new java.net.Socket("localhost", 8801)) {
+            // Add your test content here
+        }
+    }
+
+}
+"""
+
+    When you run your tests :
+
+    * a new container `faustxvi/open-port-later` is started before running each tests using the version `latest`
+    * the tests are started only after the port `8801` accepts connections
+    * this container is stopped and removed after usage
+
+  Scenario: Wait for an HTTP endpoint to answer
+
+  A port accepting connections does not mean that the application behind it is ready.
+
+  The tests can wait for an HTTP endpoint of the container to answer with an expected status code and body instead.
+
+    Given that you have a test like :
+
+"""
+@Docker(image = "faustxvi/open-port-later", ports = @Port(exposed = 8801, inner = 8080),
+        environments = @Environment(key = "WAITING_TIME", value = "1s"),
+        waitForHttp = @WaitForHttp(value = "/hello", bodyPattern = "Hello world"))
+public class MyAwesomeTest {
+
+    @Test
+    void checkMyCode() throws Exception {
+        java.net.HttpURLConnection connection = (java.net.HttpURLConnection)
+                new java.net.URL("http://localhost:8801/hello").openConnection();
+        Assertions.assertEquals(200, connection.getResponseCode());
+    }
+
+}
+"""
+
+    When you run your tests :
+
+    * a new container `faustxvi/open-port-later` is started before running each tests using the version `latest`
+    * the tests are started only after `/hello` answers on the port `8801`
+    * this container is stopped and removed after usage
+
+  Scenario: Wait for the container to be healthy
+
+  Images declaring a `HEALTHCHECK` already know when they are ready.
+
+  The tests can wait for docker to report the container healthy. The wait fails as soon as the container is reported unhealthy or dies.
+
+    Given that you have a test like :
+
+"""
+@Docker(image = "faustxvi/with-healthcheck", ports = @Port(exposed = 8801, inner = 8080),
+        waitForHealth = @WaitForHealth)
+public class MyAwesomeTest {
+
+    @Test
+    void checkMyCode() {
+        // Add your test content here
+    }
+
+}
+"""
+
+    When you run your tests :
+
+    * a new container `faustxvi/with-healthcheck` is started before running each tests using the version `latest`
+    * the tests are started only after the container is reported healthy
+    * this container is stopped and removed after usage
+
+  Scenario: Wait for a command to succeed in the container
+
+  Some images ship their own readiness tool, such as `pg_isready`, `mysqladmin ping` or `redis-cli ping`.
+
+  The tests can wait for such a command, run inside the container as with `docker exec`, to exit with code 0.
+
+    Given that you have a test like :
+
+"""
+@Docker(image = "faustxvi/with-healthcheck", ports = @Port(exposed = 8801, inner = 8080),
+        waitForExec = @WaitForExec({"/hello", "check"}))
+public class MyAwesomeTest {
+
+    @Test
+    void checkMyCode() {
+        // Add your test content here
+    }
+
+}
+"""
+
+    When you run your tests :
+
+    * a new container `faustxvi/with-healthcheck` is started before running each tests using the version `latest`
+    * the tests are started only after `/hello check` succeeds in the container
+    * this container is stopped and removed after usage